@@ -0,0 +1,144 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.IdeamanagementApplication;
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.ProjectDto;
+import com.ideamanagement.dto.UserDto;
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.EmployeeService;
+import com.ideamanagement.service.EvidenceService;
+import com.ideamanagement.service.IdeaService;
+import com.ideamanagement.service.LikeService;
+import com.ideamanagement.service.ProjectService;
+import com.ideamanagement.service.UserService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// The whole application on an in-memory H2 database in MySQL mode, with its upload, search index and trending
+// checkpoint directories under one temp directory. Each fork starts it once and seeds one employee, one user, one
+// project, seedIdeas ideas (every other one liked by the user) and seedEvidence text evidence items, so the service
+// benchmarks measure steady-state calls on a populated database rather than start-up
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    @Param({"1000"})
+    public int seedIdeas;
+
+    @Param({"200"})
+    public int seedEvidence;
+
+    public UUID employeeId;
+    public UUID userId;
+    public UUID projectId;
+    public final List<UUID> ideaIds = new ArrayList<>();
+
+    private Path workDir;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        workDir = Files.createTempDirectory("ideamanagement-jmh");
+        // Command-line arguments, so they take precedence over application.properties
+        context = new SpringApplicationBuilder(IdeamanagementApplication.class).run(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--evidence.storage.root=" + workDir.resolve("evidence"),
+            "--search.index.dir=" + workDir.resolve("search-index"),
+            "--trending.checkpoint-file=" + workDir.resolve("trending-checkpoint.csv"));
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setFirstName("Bench");
+        employee.setLastName("Mark");
+        employee.setEmail("bench.mark@example.com");
+        employee.setStatus("ACTIVE");
+        employeeId = bean(EmployeeService.class).createEmployee(employee).getId();
+
+        UserDto user = new UserDto();
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setFullName("Bench Mark");
+        user.setPassword("benchmark-password");
+        userId = bean(UserService.class).createUser(user).getId();
+
+        ProjectDto project = new ProjectDto();
+        project.setName("benchmark");
+        project.setEmployeeId(employeeId);
+        projectId = bean(ProjectService.class).createProject(project).getId();
+
+        IdeaService ideaService = bean(IdeaService.class);
+        LikeService likeService = bean(LikeService.class);
+        for (int i = 0; i < seedIdeas; i++) {
+            UUID ideaId = ideaService.createIdea(idea("Seed idea " + i)).getId();
+            ideaIds.add(ideaId);
+            if (i % 2 == 0) {
+                likeService.createLike(userId, ideaId);
+            }
+        }
+
+        EvidenceService evidenceService = bean(EvidenceService.class);
+        for (int i = 0; i < seedEvidence; i++) {
+            EvidenceDto evidence = new EvidenceDto();
+            evidence.setTitle("Seed evidence " + i);
+            evidence.setDescription("Load test notes " + i);
+            evidence.setType(Evidence.EvidenceType.TEXT);
+            evidence.setCategory(i % 2 == 0 ? "notes" : "reports");
+            evidence.setProjectId(projectId);
+            evidence.setUploadedBy(userId);
+            evidenceService.createEvidence(evidence);
+        }
+    }
+
+    public IdeaDto idea(String title) {
+        IdeaDto idea = new IdeaDto();
+        idea.setTitle(title);
+        idea.setDescription("Cut the p99 of the idea listing by caching the employee lookups");
+        idea.setPriority(Idea.Priority.MEDIUM);
+        idea.setStatus(Idea.Status.PENDING);
+        idea.setAssignedTo("platform-team");
+        idea.setTags(Set.of("performance", "backend"));
+        idea.setEmployeeId(employeeId);
+        return idea;
+    }
+}
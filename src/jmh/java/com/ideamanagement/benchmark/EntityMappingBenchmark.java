@@ -0,0 +1,323 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.dto.DatabaseTrackerDto;
+import com.ideamanagement.dto.DeploymentDto;
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.dto.EnvironmentDto;
+import com.ideamanagement.dto.TagDto;
+import com.ideamanagement.entity.DatabaseTracker;
+import com.ideamanagement.entity.Deployment;
+import com.ideamanagement.entity.Employee;
+import com.ideamanagement.entity.Environment;
+import com.ideamanagement.entity.Tag;
+import com.ideamanagement.mapper.DatabaseTrackerMapperImpl;
+import com.ideamanagement.mapper.DeploymentMapperImpl;
+import com.ideamanagement.mapper.EmployeeMapperImpl;
+import com.ideamanagement.mapper.EnvironmentMapperImpl;
+import com.ideamanagement.mapper.TagMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Cost of turning one entity into its response DTO with each mapping approach the services have used: the
+// reflective ModelMapper (configured as the application configured it), Spring's BeanUtils.copyProperties, the
+// generated mappers, and plain setter calls as the floor. Run only this suite with -Djmh.args="EntityMappingBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+
+    @Param({"deployment", "environment", "employee", "tag", "databaseTracker"})
+    public String entity;
+
+    private MappingCase<?> mappingCase;
+
+    @Setup
+    public void setUp() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setSkipNullEnabled(true)
+            .setAmbiguityIgnored(true);
+        Employee employee = employee();
+
+        switch (entity) {
+            case "deployment" -> {
+                Deployment deployment = deployment(employee);
+                mappingCase = new MappingCase<>(deployment,
+                    source -> modelMapper.map(source, DeploymentDto.class),
+                    source -> {
+                        DeploymentDto dto = new DeploymentDto();
+                        BeanUtils.copyProperties(source, dto);
+                        dto.setEmployeeId(source.getEmployee() != null ? source.getEmployee().getId() : null);
+                        return dto;
+                    },
+                    new DeploymentMapperImpl()::toDto,
+                    EntityMappingBenchmark::copyToDto);
+            }
+            case "environment" -> {
+                Environment environment = environment(employee);
+                mappingCase = new MappingCase<>(environment,
+                    source -> modelMapper.map(source, EnvironmentDto.class),
+                    source -> {
+                        EnvironmentDto dto = new EnvironmentDto();
+                        BeanUtils.copyProperties(source, dto);
+                        dto.setEmployeeId(source.getEmployee() != null ? source.getEmployee().getId() : null);
+                        return dto;
+                    },
+                    new EnvironmentMapperImpl()::toDto,
+                    EntityMappingBenchmark::copyToDto);
+            }
+            case "employee" -> mappingCase = new MappingCase<>(employee,
+                source -> modelMapper.map(source, EmployeeDto.class),
+                source -> {
+                    EmployeeDto dto = new EmployeeDto();
+                    BeanUtils.copyProperties(source, dto);
+                    // BeanUtils skips properties whose types differ
+                    dto.setStatus(source.getStatus() != null ? source.getStatus().name() : null);
+                    return dto;
+                },
+                new EmployeeMapperImpl()::toDto,
+                EntityMappingBenchmark::copyToDto);
+            case "tag" -> {
+                Tag tag = tag(employee);
+                mappingCase = new MappingCase<>(tag,
+                    source -> modelMapper.map(source, TagDto.class),
+                    source -> {
+                        TagDto dto = new TagDto();
+                        BeanUtils.copyProperties(source, dto);
+                        return dto;
+                    },
+                    new TagMapperImpl()::toDto,
+                    EntityMappingBenchmark::copyToDto);
+            }
+            case "databaseTracker" -> {
+                DatabaseTracker databaseTracker = databaseTracker(employee);
+                mappingCase = new MappingCase<>(databaseTracker,
+                    source -> modelMapper.map(source, DatabaseTrackerDto.class),
+                    source -> {
+                        DatabaseTrackerDto dto = new DatabaseTrackerDto();
+                        BeanUtils.copyProperties(source, dto);
+                        dto.setEmployeeId(source.getEmployee() != null ? source.getEmployee().getId() : null);
+                        return dto;
+                    },
+                    new DatabaseTrackerMapperImpl()::toDto,
+                    EntityMappingBenchmark::copyToDto);
+            }
+            default -> throw new IllegalArgumentException("Unknown entity: " + entity);
+        }
+    }
+
+    @Benchmark
+    public Object modelMapper() {
+        return mappingCase.mapWithModelMapper();
+    }
+
+    @Benchmark
+    public Object beanUtils() {
+        return mappingCase.mapWithBeanUtils();
+    }
+
+    @Benchmark
+    public Object generated() {
+        return mappingCase.mapWithGenerated();
+    }
+
+    @Benchmark
+    public Object handWritten() {
+        return mappingCase.mapWithHandWritten();
+    }
+
+    // Every approach goes through the same Function call, so the indirection costs them all alike
+    private record MappingCase<E>(E source, Function<E, ?> modelMapper, Function<E, ?> beanUtils,
+                                  Function<E, ?> generated, Function<E, ?> handWritten) {
+
+        Object mapWithModelMapper() {
+            return modelMapper.apply(source);
+        }
+
+        Object mapWithBeanUtils() {
+            return beanUtils.apply(source);
+        }
+
+        Object mapWithGenerated() {
+            return generated.apply(source);
+        }
+
+        Object mapWithHandWritten() {
+            return handWritten.apply(source);
+        }
+    }
+
+    private static DeploymentDto copyToDto(Deployment deployment) {
+        DeploymentDto dto = new DeploymentDto();
+        dto.setId(deployment.getId());
+        dto.setName(deployment.getName());
+        dto.setEnvironment(deployment.getEnvironment());
+        dto.setStatus(deployment.getStatus());
+        dto.setVersion(deployment.getVersion());
+        dto.setDeployedAt(deployment.getDeployedAt());
+        dto.setBranch(deployment.getBranch());
+        dto.setCommitHash(deployment.getCommitHash());
+        dto.setHealth(deployment.getHealth());
+        dto.setProgress(deployment.getProgress());
+        dto.setCreatedAt(deployment.getCreatedAt());
+        dto.setUpdatedAt(deployment.getUpdatedAt());
+        dto.setEmployeeId(deployment.getEmployee() != null ? deployment.getEmployee().getId() : null);
+        return dto;
+    }
+
+    private static EnvironmentDto copyToDto(Environment environment) {
+        EnvironmentDto dto = new EnvironmentDto();
+        dto.setId(environment.getId());
+        dto.setName(environment.getName());
+        dto.setStatus(environment.getStatus());
+        dto.setDeploymentsCount(environment.getDeploymentsCount());
+        dto.setLastUpdate(environment.getLastUpdate());
+        dto.setCreatedAt(environment.getCreatedAt());
+        dto.setUpdatedAt(environment.getUpdatedAt());
+        dto.setEmployeeId(environment.getEmployee() != null ? environment.getEmployee().getId() : null);
+        return dto;
+    }
+
+    private static EmployeeDto copyToDto(Employee employee) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.setId(employee.getId());
+        dto.setFirstName(employee.getFirstName());
+        dto.setLastName(employee.getLastName());
+        dto.setEmail(employee.getEmail());
+        dto.setPhone(employee.getPhone());
+        dto.setDepartment(employee.getDepartment());
+        dto.setPosition(employee.getPosition());
+        dto.setStatus(employee.getStatus() != null ? employee.getStatus().name() : null);
+        dto.setHireDate(employee.getHireDate());
+        dto.setSalary(employee.getSalary());
+        dto.setAddress(employee.getAddress());
+        dto.setAvatar(employee.getAvatar());
+        dto.setManager(employee.getManager());
+        dto.setSkills(employee.getSkills() != null ? new HashSet<>(employee.getSkills()) : null);
+        dto.setCreatedAt(employee.getCreatedAt());
+        dto.setUpdatedAt(employee.getUpdatedAt());
+        return dto;
+    }
+
+    private static TagDto copyToDto(Tag tag) {
+        TagDto dto = new TagDto();
+        dto.setId(tag.getId());
+        dto.setName(tag.getName());
+        return dto;
+    }
+
+    private static DatabaseTrackerDto copyToDto(DatabaseTracker databaseTracker) {
+        DatabaseTrackerDto dto = new DatabaseTrackerDto();
+        dto.setId(databaseTracker.getId());
+        dto.setName(databaseTracker.getName());
+        dto.setVersion(databaseTracker.getVersion());
+        dto.setStatus(databaseTracker.getStatus());
+        dto.setLastModified(databaseTracker.getLastModified());
+        dto.setTablesCount(databaseTracker.getTablesCount());
+        dto.setMigrationsCount(databaseTracker.getMigrationsCount());
+        dto.setMigrationsJson(databaseTracker.getMigrationsJson());
+        dto.setEmployeeId(databaseTracker.getEmployee() != null ? databaseTracker.getEmployee().getId() : null);
+        return dto;
+    }
+
+    private static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        employee.setFirstName("Ada");
+        employee.setLastName("Lovelace");
+        employee.setEmail("ada.lovelace@example.com");
+        employee.setPhone("+44 20 7946 0000");
+        employee.setDepartment("Engineering");
+        employee.setPosition("Principal Engineer");
+        employee.setStatus(Employee.Status.ACTIVE);
+        employee.setHireDate(LocalDate.of(2019, 3, 1));
+        employee.setSalary(new BigDecimal("98000.00"));
+        employee.setAddress("12 Analytical Row, London");
+        employee.setAvatar("avatars/ada.png");
+        employee.setManager("Charles Babbage");
+        employee.setSkills(new HashSet<>(Set.of("java", "sql", "kubernetes", "profiling")));
+        employee.setCreatedAt(LocalDateTime.now());
+        employee.setUpdatedAt(LocalDateTime.now());
+        return employee;
+    }
+
+    private static Deployment deployment(Employee employee) {
+        Deployment deployment = new Deployment();
+        deployment.setId(UUID.randomUUID());
+        deployment.setName("idea-service");
+        deployment.setEnvironment("production");
+        deployment.setStatus(Deployment.DeploymentStatus.DEPLOYED);
+        deployment.setVersion("2.14.3");
+        deployment.setDeployedAt(LocalDateTime.now());
+        deployment.setBranch("release/2.14");
+        deployment.setCommitHash("9f2c1e7b4a6d8e0f1a2b3c4d5e6f7a8b9c0d1e2f");
+        deployment.setHealth(Deployment.HealthStatus.HEALTHY);
+        deployment.setProgress("100");
+        deployment.setCreatedAt(LocalDateTime.now());
+        deployment.setUpdatedAt(LocalDateTime.now());
+        deployment.setRevision(3L);
+        deployment.setEmployee(employee);
+        return deployment;
+    }
+
+    private static Environment environment(Employee employee) {
+        Environment environment = new Environment();
+        environment.setId(UUID.randomUUID());
+        environment.setName("production");
+        environment.setStatus(Environment.EnvironmentStatus.ACTIVE);
+        environment.setDeploymentsCount("42");
+        environment.setLastUpdate("2 hours ago");
+        environment.setCreatedAt(LocalDateTime.now());
+        environment.setUpdatedAt(LocalDateTime.now());
+        environment.setRevision(7L);
+        environment.setEmployee(employee);
+        return environment;
+    }
+
+    private static Tag tag(Employee employee) {
+        Tag tag = new Tag();
+        tag.setId(UUID.randomUUID().toString());
+        tag.setName("performance");
+        tag.setUpdatedAt(LocalDateTime.now());
+        tag.setRevision(1L);
+        tag.setEmployee(employee);
+        return tag;
+    }
+
+    private static DatabaseTracker databaseTracker(Employee employee) {
+        DatabaseTracker databaseTracker = new DatabaseTracker();
+        databaseTracker.setId(17);
+        databaseTracker.setName("ideas-primary");
+        databaseTracker.setVersion("8.0.36");
+        databaseTracker.setStatus(DatabaseTracker.Status.approved);
+        databaseTracker.setLastModified(LocalDate.now());
+        databaseTracker.setTablesCount(24);
+        databaseTracker.setMigrationsCount(9);
+        databaseTracker.setMigrationsJson("[\"V1__init\",\"V2__indexes\",\"V3__likes\"]");
+        databaseTracker.setEmployee(employee);
+        return databaseTracker;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.service.EvidenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EvidenceServiceBenchmark {
+
+    @Param({"65536"})
+    public int fileSize;
+
+    private EvidenceService evidenceService;
+    private UUID projectId;
+    private UUID userId;
+    private byte[] content;
+    private long sequence;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        evidenceService = application.bean(EvidenceService.class);
+        projectId = application.projectId;
+        userId = application.userId;
+        content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+    }
+
+    // Uploads are content-addressed, so each one gets a unique prefix to force a real file write
+    @Benchmark
+    public EvidenceDto createFileEvidence() {
+        ByteBuffer.wrap(content).putLong(sequence++);
+        EvidenceDto evidence = new EvidenceDto();
+        evidence.setTitle("Benchmark evidence " + sequence);
+        evidence.setType(Evidence.EvidenceType.FILE);
+        evidence.setCategory("logs");
+        evidence.setProjectId(projectId);
+        evidence.setUploadedBy(userId);
+        evidence.setTags(Set.of("benchmark"));
+        evidence.setFileName("evidence-" + sequence + ".bin");
+        evidence.setFileData(new MockMultipartFile("file", "evidence-" + sequence + ".bin",
+            "application/octet-stream", content));
+        return evidenceService.createEvidence(evidence);
+    }
+
+    @Benchmark
+    public Page<EvidenceDto> listEvidencePage() {
+        return evidenceService.getEvidenceByProject(projectId, PageRequest.of(0, 20));
+    }
+}
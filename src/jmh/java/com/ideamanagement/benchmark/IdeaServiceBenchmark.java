@@ -0,0 +1,78 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.dto.CursorPageDto;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.service.IdeaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class IdeaServiceBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private IdeaService ideaService;
+    private UUID employeeId;
+    private List<UUID> ideaIds;
+    private int sequence;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        ideaService = application.bean(IdeaService.class);
+        employeeId = application.employeeId;
+        ideaIds = application.ideaIds;
+    }
+
+    @Benchmark
+    public IdeaDto createIdea(ApplicationState application) {
+        return ideaService.createIdea(application.idea("Benchmark idea " + sequence++));
+    }
+
+    @Benchmark
+    public IdeaDto patchIdea() {
+        IdeaDto patch = new IdeaDto();
+        patch.setTitle("Patched idea " + sequence++);
+        return ideaService.patchIdea(nextIdea(), employeeId, patch);
+    }
+
+    // One row loaded and converted to its DTO
+    @Benchmark
+    public IdeaDto getIdea() {
+        return ideaService.getIdeaById(nextIdea(), employeeId);
+    }
+
+    @Benchmark
+    public Page<IdeaDto> listIdeasPage() {
+        return ideaService.getAllIdeas(employeeId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPageDto<IdeaDto> scrollIdeasPage() {
+        return ideaService.scrollIdeas(employeeId, null, null, null, null, 20);
+    }
+
+    private UUID nextIdea() {
+        return ideaIds.get(Math.floorMod(sequence++, ideaIds.size()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.dto.LikeStatusDto;
+import com.ideamanagement.service.LikeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LikeServiceBenchmark {
+
+    private LikeService likeService;
+    private UUID userId;
+    private List<UUID> ideaIds;
+    private int sequence;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        likeService = application.bean(LikeService.class);
+        userId = application.userId;
+        ideaIds = application.ideaIds;
+    }
+
+    // A like and its undo on one of the ideas the seed left unliked, so the likes table and the upvote counters
+    // stay the same size across iterations
+    @Benchmark
+    public void likeAndUnlike() {
+        UUID ideaId = ideaIds.get(Math.floorMod(sequence++, ideaIds.size() / 2) * 2 + 1);
+        likeService.createLike(userId, ideaId);
+        likeService.deleteLike(userId, ideaId);
+    }
+
+    // The liked-state lookup behind one page of the idea list
+    @Benchmark
+    public List<LikeStatusDto> likeStatusForPage() {
+        int from = Math.floorMod(sequence++ * 20, ideaIds.size() - 20);
+        return likeService.getLikeStatus(userId, ideaIds.subList(from, from + 20));
+    }
+}
@@ -0,0 +1,143 @@
+package com.ideamanagement.benchmark;
+
+import com.ideamanagement.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// The key formats of V8__binary_uuid_keys.sql, compared on a file-backed H2 database with a small page cache so
+// the indexes outgrow memory as they would the buffer pool. The table mirrors likes, as in
+// db/benchmark/uuid_key_inserts.sql, and is prefilled before measuring because random keys only hurt once the
+// index is larger than the cache. Each invocation inserts one transaction of BATCH_SIZE rows, so the score is in
+// rows per second. The sizes the table ends up at are printed after the iterations
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class UuidKeyInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    // random_varchar: VARCHAR(36) version 4, the previous default. ordered_varchar: VARCHAR(36) version 7.
+    // ordered_binary: BINARY(16) version 7, the new default
+    @Param({"random_varchar", "ordered_varchar", "ordered_binary"})
+    public String keyFormat;
+
+    @Param({"1000000"})
+    public int prefillRows;
+
+    // H2 CACHE_SIZE, in KB
+    @Param({"16384"})
+    public int cacheKb;
+
+    private Path workDir;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void createTable() throws IOException, SQLException {
+        workDir = Files.createTempDirectory("ideamanagement-uuid-jmh");
+        connection = open();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bench (id " + (binaryKey() ? "BINARY(16)" : "VARCHAR(36)")
+                    + " NOT NULL PRIMARY KEY, user_id VARCHAR(36) NOT NULL, idea_id VARCHAR(36) NOT NULL,"
+                    + " created_at TIMESTAMP(6) NOT NULL)");
+            statement.execute("CREATE INDEX idx_idea_created ON bench (idea_id, created_at, id)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO bench (id, user_id, idea_id, created_at) VALUES (?, ?, ?, ?)");
+        while (inserted < prefillRows) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long row = inserted++;
+            UUID id = "random_varchar".equals(keyFormat) ? UUID.randomUUID() : UuidV7Generator.randomUuid();
+            if (binaryKey()) {
+                insert.setBytes(1, toBytes(id));
+            } else {
+                insert.setString(1, id.toString());
+            }
+            insert.setString(2, "user-" + row % 10000);
+            insert.setString(3, "idea-" + row % 1000);
+            insert.setTimestamp(4, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    // Compacted database size with and without the secondary index; the difference is what idx_idea_created takes
+    @TearDown(Level.Trial)
+    public void reportSizes() throws IOException, SQLException {
+        insert.close();
+        long withIndex = compactedSize(connection);
+        try (Connection reopened = open()) {
+            try (Statement statement = reopened.createStatement()) {
+                statement.execute("DROP INDEX idx_idea_created");
+            }
+            long withoutIndex = compactedSize(reopened);
+            System.out.printf("%n%s: %d rows, %.1f MB table and primary key, %.1f MB idx_idea_created, %d bytes per row%n",
+                    keyFormat, inserted, withoutIndex / 1048576.0, (withIndex - withoutIndex) / 1048576.0,
+                    withIndex / inserted);
+        }
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    private Connection open() throws SQLException {
+        return DriverManager.getConnection("jdbc:h2:file:" + workDir.resolve("bench")
+                + ";MODE=MySQL;CACHE_SIZE=" + cacheKb, "sa", "");
+    }
+
+    private long compactedSize(Connection database) throws IOException, SQLException {
+        try (Statement statement = database.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        database.close();
+        return Files.size(workDir.resolve("bench.mv.db"));
+    }
+
+    private boolean binaryKey() {
+        return "ordered_binary".equals(keyFormat);
+    }
+
+    // The layout Hibernate uses for UUIDs in BINARY(16) columns
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,275 @@
+package com.ideamanagement.loadtest;
+
+import com.ideamanagement.dto.ApiEndpointDto;
+import com.ideamanagement.dto.ApiTestLogDto;
+import com.ideamanagement.dto.DeploymentDto;
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.ProjectDto;
+import com.ideamanagement.dto.TagDto;
+import com.ideamanagement.dto.UserDto;
+import com.ideamanagement.entity.ApiEndpoint;
+import com.ideamanagement.entity.Deployment;
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.ApiEndpointService;
+import com.ideamanagement.service.ApiTestLogService;
+import com.ideamanagement.service.DeploymentService;
+import com.ideamanagement.service.EmployeeService;
+import com.ideamanagement.service.EvidenceService;
+import com.ideamanagement.service.IdeaService;
+import com.ideamanagement.service.LikeService;
+import com.ideamanagement.service.ProjectService;
+import com.ideamanagement.service.TagService;
+import com.ideamanagement.service.UserService;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+// Seeds the application through its services with a reproducible synthetic dataset: the same sizes and seed give the
+// same rows. Ideas and likes are skewed towards a few popular ideas and users, the way real traffic is
+public class DatasetGenerator {
+    private static final String[] DEPARTMENTS = {"Engineering", "Operations", "Sales", "Finance", "Support"};
+    private static final String[] TEAMS = {"platform-team", "web-team", "data-team", "mobile-team", "ops-team"};
+    private static final String[] WORDS = {"cache", "search", "export", "latency", "billing", "onboarding",
+        "dashboard", "alerting", "pipeline", "mobile", "checkout", "reporting", "audit", "sync", "import"};
+    private static final String[] ENVIRONMENTS = {"development", "staging", "production"};
+    private static final String[] CATEGORIES = {"logs", "screenshots", "reports", "designs"};
+
+    private final LoadTestApplication application;
+    private final Random random;
+
+    public DatasetGenerator(LoadTestApplication application, long seed) {
+        this.application = application;
+        this.random = new Random(seed);
+    }
+
+    // Sizes of the dataset, read from --employees=, --users=, ... options
+    public record Size(int employees, int users, int projects, int tags, int ideas, int likes, int evidence,
+                       int evidenceBytes, int deployments, int endpoints, int testLogs) {
+
+        public static Size from(LoadTestOptions options) {
+            return new Size(options.getInt("employees", 50), options.getInt("users", 200),
+                options.getInt("projects", 20), options.getInt("tags", 30), options.getInt("ideas", 5000),
+                options.getInt("likes", 20000), options.getInt("evidence", 500),
+                options.getInt("evidence-bytes", 16384), options.getInt("deployments", 1000),
+                options.getInt("endpoints", 100), options.getInt("test-logs", 5000));
+        }
+    }
+
+    // Ids of the seeded rows, for the workload to pick from
+    public static class Dataset {
+        public final List<UUID> employeeIds = new ArrayList<>();
+        public final List<UUID> userIds = new ArrayList<>();
+        public final List<UUID> projectIds = new ArrayList<>();
+        public final List<String> tagNames = new ArrayList<>();
+        public final List<UUID> ideaIds = new ArrayList<>();
+        // Owner of the idea at the same index; single ideas are only found together with their employee
+        public final List<UUID> ideaEmployeeIds = new ArrayList<>();
+        public final List<UUID> evidenceIds = new ArrayList<>();
+        public final List<UUID> deploymentIds = new ArrayList<>();
+        public final List<UUID> endpointIds = new ArrayList<>();
+    }
+
+    public Dataset generate(Size size) {
+        Dataset dataset = new Dataset();
+        timed("employees", size.employees(), () -> seedEmployees(dataset, size.employees()));
+        timed("users", size.users(), () -> seedUsers(dataset, size.users()));
+        timed("projects", size.projects(), () -> seedProjects(dataset, size.projects()));
+        timed("tags", size.tags(), () -> seedTags(dataset, size.tags()));
+        timed("ideas", size.ideas(), () -> seedIdeas(dataset, size.ideas()));
+        timed("likes", size.likes(), () -> seedLikes(dataset, size.likes()));
+        timed("evidence files", size.evidence(), () -> seedEvidence(dataset, size.evidence(), size.evidenceBytes()));
+        timed("deployments", size.deployments(), () -> seedDeployments(dataset, size.deployments()));
+        timed("API endpoints", size.endpoints(), () -> seedEndpoints(dataset, size.endpoints()));
+        timed("test logs", size.testLogs(), () -> seedTestLogs(dataset, size.testLogs()));
+        return dataset;
+    }
+
+    private void seedEmployees(Dataset dataset, int count) {
+        EmployeeService employeeService = application.bean(EmployeeService.class);
+        for (int i = 0; i < count; i++) {
+            EmployeeDto employee = new EmployeeDto();
+            employee.setFirstName("Employee");
+            employee.setLastName("Number" + i);
+            employee.setEmail("employee" + i + "@loadtest.example.com");
+            employee.setDepartment(pick(random, DEPARTMENTS));
+            employee.setPosition("Engineer");
+            employee.setStatus("ACTIVE");
+            employee.setHireDate(LocalDate.now().minusDays(random.nextInt(3000)));
+            dataset.employeeIds.add(employeeService.createEmployee(employee).getId());
+        }
+    }
+
+    private void seedUsers(Dataset dataset, int count) {
+        UserService userService = application.bean(UserService.class);
+        for (int i = 0; i < count; i++) {
+            UserDto user = new UserDto();
+            user.setUsername("loaduser" + i);
+            user.setEmail("user" + i + "@loadtest.example.com");
+            user.setFullName("Load User " + i);
+            user.setPassword("loadtest-password-" + i);
+            dataset.userIds.add(userService.createUser(user).getId());
+        }
+    }
+
+    private void seedProjects(Dataset dataset, int count) {
+        ProjectService projectService = application.bean(ProjectService.class);
+        for (int i = 0; i < count; i++) {
+            ProjectDto project = new ProjectDto();
+            project.setName("Project " + i + " " + pick(random, WORDS));
+            project.setEmployeeId(pick(random, dataset.employeeIds));
+            dataset.projectIds.add(projectService.createProject(project).getId());
+        }
+    }
+
+    private void seedTags(Dataset dataset, int count) {
+        TagService tagService = application.bean(TagService.class);
+        for (int i = 0; i < count; i++) {
+            TagDto tag = new TagDto();
+            tag.setName(WORDS[i % WORDS.length] + (i < WORDS.length ? "" : "-" + i / WORDS.length));
+            tag.setEmployeeId(pick(random, dataset.employeeIds));
+            dataset.tagNames.add(tagService.createTag(tag).getName());
+        }
+    }
+
+    private void seedIdeas(Dataset dataset, int count) {
+        IdeaService ideaService = application.bean(IdeaService.class);
+        for (int i = 0; i < count; i++) {
+            IdeaDto idea = ideaService.createIdea(idea(dataset, i, random));
+            dataset.ideaIds.add(idea.getId());
+            dataset.ideaEmployeeIds.add(idea.getEmployeeId());
+        }
+    }
+
+    // Also used for the ideas the workload creates, each client with its own Random
+    public static IdeaDto idea(Dataset dataset, int number, Random random) {
+        IdeaDto idea = new IdeaDto();
+        idea.setTitle("Improve " + pick(random, WORDS) + " " + pick(random, WORDS) + " #" + number);
+        idea.setDescription("Make the " + pick(random, WORDS) + " flow faster and the " + pick(random, WORDS) + " reports clearer");
+        idea.setPriority(Idea.Priority.values()[random.nextInt(Idea.Priority.values().length)]);
+        idea.setStatus(Idea.Status.values()[random.nextInt(Idea.Status.values().length)]);
+        idea.setAssignedTo(pick(random, TEAMS));
+        idea.setDueDate(LocalDate.now().plusDays(random.nextInt(180)));
+        Set<String> tags = new HashSet<>();
+        for (int t = 1 + random.nextInt(3); t > 0 && !dataset.tagNames.isEmpty(); t--) {
+            tags.add(skewed(random, dataset.tagNames));
+        }
+        idea.setTags(tags);
+        idea.setEmployeeId(pick(random, dataset.employeeIds));
+        return idea;
+    }
+
+    private void seedLikes(Dataset dataset, int count) {
+        LikeService likeService = application.bean(LikeService.class);
+        long possible = (long) dataset.userIds.size() * dataset.ideaIds.size();
+        Set<String> liked = new HashSet<>();
+        while (liked.size() < Math.min(count, possible)) {
+            UUID userId = skewed(random, dataset.userIds);
+            UUID ideaId = skewed(random, dataset.ideaIds);
+            if (liked.add(userId + ":" + ideaId)) {
+                likeService.createLike(userId, ideaId);
+            }
+        }
+    }
+
+    private void seedEvidence(Dataset dataset, int count, int fileBytes) {
+        EvidenceService evidenceService = application.bean(EvidenceService.class);
+        byte[] content = new byte[fileBytes];
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(content);
+            ByteBuffer.wrap(content).putInt(i);
+            EvidenceDto evidence = new EvidenceDto();
+            evidence.setTitle("Evidence " + i + " for " + pick(random, WORDS));
+            evidence.setDescription("Captured during the " + pick(random, WORDS) + " rollout");
+            evidence.setType(Evidence.EvidenceType.FILE);
+            evidence.setCategory(pick(random, CATEGORIES));
+            evidence.setProjectId(pick(random, dataset.projectIds));
+            evidence.setUploadedBy(pick(random, dataset.userIds));
+            evidence.setIdeaId(random.nextBoolean() ? pick(random, dataset.ideaIds) : null);
+            evidence.setTags(Set.of(pick(random, dataset.tagNames)));
+            evidence.setFileName("evidence-" + i + ".bin");
+            evidence.setFileData(new MockMultipartFile("file", "evidence-" + i + ".bin",
+                "application/octet-stream", content.clone()));
+            dataset.evidenceIds.add(evidenceService.createEvidence(evidence).getId());
+        }
+    }
+
+    private void seedDeployments(Dataset dataset, int count) {
+        DeploymentService deploymentService = application.bean(DeploymentService.class);
+        for (int i = 0; i < count; i++) {
+            DeploymentDto deployment = new DeploymentDto();
+            deployment.setName(pick(random, WORDS) + "-service");
+            deployment.setEnvironment(pick(random, ENVIRONMENTS));
+            deployment.setStatus(Deployment.DeploymentStatus.values()[random.nextInt(Deployment.DeploymentStatus.values().length)]);
+            deployment.setVersion("1." + random.nextInt(20) + "." + random.nextInt(10));
+            deployment.setDeployedAt(LocalDateTime.now().minusHours(random.nextInt(24 * 90)));
+            deployment.setBranch(random.nextInt(4) == 0 ? "release" : "main");
+            deployment.setCommitHash(Long.toHexString(random.nextLong()));
+            deployment.setHealth(Deployment.HealthStatus.values()[random.nextInt(Deployment.HealthStatus.values().length)]);
+            deployment.setProgress("100");
+            deployment.setEmployeeId(pick(random, dataset.employeeIds));
+            dataset.deploymentIds.add(deploymentService.createDeployment(deployment).getId());
+        }
+    }
+
+    private void seedEndpoints(Dataset dataset, int count) {
+        ApiEndpointService endpointService = application.bean(ApiEndpointService.class);
+        for (int i = 0; i < count; i++) {
+            ApiEndpointDto endpoint = new ApiEndpointDto();
+            endpoint.setName(pick(random, WORDS) + " endpoint " + i);
+            endpoint.setMethod(ApiEndpoint.HttpMethod.values()[random.nextInt(ApiEndpoint.HttpMethod.values().length)]);
+            endpoint.setPath("/v1/" + pick(random, WORDS) + "/" + i);
+            endpoint.setStatus(ApiEndpoint.Status.values()[random.nextInt(ApiEndpoint.Status.values().length)]);
+            endpoint.setVersion("v1");
+            endpoint.setResponseTimeMs(5 + random.nextInt(500));
+            endpoint.setEmployeeId(pick(random, dataset.employeeIds));
+            dataset.endpointIds.add(endpointService.createEndpoint(endpoint).getId());
+        }
+    }
+
+    private void seedTestLogs(Dataset dataset, int count) {
+        ApiTestLogService testLogService = application.bean(ApiTestLogService.class);
+        for (int i = 0; i < count; i++) {
+            testLogService.createTestLog(testLog(dataset, random));
+        }
+    }
+
+    public static ApiTestLogDto testLog(Dataset dataset, Random random) {
+        ApiTestLogDto testLog = new ApiTestLogDto();
+        testLog.setEndpointId(skewed(random, dataset.endpointIds));
+        testLog.setRequestMethod(ApiEndpoint.HttpMethod.GET);
+        testLog.setRequestPath("/v1/" + pick(random, WORDS) + "?page=" + random.nextInt(10));
+        testLog.setResponseBody("{\"status\":\"ok\",\"items\":" + random.nextInt(100) + "}");
+        return testLog;
+    }
+
+    static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Squaring a uniform number puts most picks near the start of the list: a few hot rows take most of the load
+    static <T> T skewed(Random random, List<T> values) {
+        double r = random.nextDouble();
+        return values.get((int) (r * r * values.size()));
+    }
+
+    private static void timed(String what, int count, Runnable seeding) {
+        long started = System.nanoTime();
+        seeding.run();
+        System.out.printf("Seeded %d %s in %.1fs%n", count, what, (System.nanoTime() - started) / 1e9);
+    }
+}
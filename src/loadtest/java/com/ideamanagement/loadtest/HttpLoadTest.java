@@ -0,0 +1,326 @@
+package com.ideamanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.entity.Idea;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Seeds a synthetic dataset, then drives the real controllers over HTTP with a weighted mix of reads and writes from
+// a growing number of concurrent clients, and reports throughput and latency percentiles per endpoint for every
+// step. Where throughput stops growing with the client count while p99 climbs is the scaling knee.
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--clients=4,16,64 --step-duration=30s --ideas=20000"
+//
+// Options (defaults):
+//   --clients (1,4,16,32)  --step-duration (20s)  --warmup (10s)  --think-time (0ms)  --seed (42)
+//   --output (target/http-load-test.json)
+//   --mix=name:weight,...  overrides operation weights, e.g. --mix=evidence.upload:0,ideas.search:20
+//   dataset sizes: --employees (50) --users (200) --projects (20) --tags (30) --ideas (5000) --likes (20000)
+//   --evidence (500) --evidence-bytes (16384) --deployments (1000) --endpoints (100) --test-logs (5000)
+// The application runs on an in-memory H2 database in MySQL mode; spring.* options go to the application, so
+// --spring.datasource.url=jdbc:mysql://... (with username, password, driver-class-name and the
+// spring.jpa.properties.hibernate.dialect) runs the same test against a MySQL database.
+public class HttpLoadTest {
+    private static final Idea.Status[] STATUSES = Idea.Status.values();
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10)).build();
+    private final List<Operation> operations = new ArrayList<>();
+    private DatasetGenerator.Dataset dataset;
+    private String baseUrl;
+
+    private HttpLoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new HttpLoadTest(LoadTestOptions.parse(args)).run();
+        System.exit(0);
+    }
+
+    // One unit of client work; most are a single request, recorded under the operation's name
+    private interface Action {
+        void run(Client client) throws IOException, InterruptedException;
+    }
+
+    private record Operation(String name, int weight, Action action) {
+    }
+
+    private void defineOperations() {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : options.get("mix", "").split(",")) {
+            if (!entry.isBlank()) {
+                weights.put(entry.substring(0, entry.indexOf(':')).trim(),
+                    Integer.parseInt(entry.substring(entry.indexOf(':') + 1).trim()));
+            }
+        }
+        Map<String, Operation> defaults = new LinkedHashMap<>();
+        define(defaults, "ideas.get", 20, client -> {
+            int idea = client.skewedIndex(dataset.ideaIds.size());
+            client.get("ideas.get", "/api/ideas/" + dataset.ideaIds.get(idea) + "?employeeId="
+                + dataset.ideaEmployeeIds.get(idea));
+        });
+        define(defaults, "ideas.list", 10, client ->
+            client.get("ideas.list", "/api/ideas?page=" + client.random.nextInt(pages(dataset.ideaIds.size())) + "&size=20"));
+        define(defaults, "ideas.scroll", 8, client ->
+            client.get("ideas.scroll", "/api/ideas?limit=20"));
+        define(defaults, "ideas.byTag", 8, client ->
+            client.get("ideas.byTag", "/api/ideas/tag/" + client.skewed(dataset.tagNames) + "?limit=20"));
+        define(defaults, "ideas.search", 5, client ->
+            client.get("ideas.search", "/api/ideas/search?q=" + client.skewed(dataset.tagNames)));
+        define(defaults, "ideas.trending", 5, client ->
+            client.get("ideas.trending", "/api/ideas/trending?limit=10"));
+        define(defaults, "ideas.create", 3, client -> {
+            IdeaDto idea = DatasetGenerator.idea(dataset, client.random.nextInt(1_000_000), client.random);
+            client.send("ideas.create", json(client, "/api/ideas", "POST", idea));
+        });
+        define(defaults, "ideas.patch", 3, client -> {
+            int idea = client.skewedIndex(dataset.ideaIds.size());
+            client.send("ideas.patch", json(client, "/api/ideas/" + dataset.ideaIds.get(idea) + "?employeeId="
+                + dataset.ideaEmployeeIds.get(idea), "PATCH", Map.of("status", STATUSES[client.random.nextInt(STATUSES.length)])));
+        });
+        // Likes an idea the user has not liked yet and takes back one already liked, so the like table stays the same size
+        define(defaults, "likes.toggle", 6, client -> {
+            String path = "/api/likes/ideas/" + client.skewed(dataset.ideaIds) + "/users/" + client.skewed(dataset.userIds);
+            String liked = client.get("likes.check", path + "/check");
+            if ("true".equals(liked)) {
+                client.send("likes.unlike", client.request(path).DELETE().build());
+            } else if ("false".equals(liked)) {
+                client.send("likes.like", client.request(path).POST(HttpRequest.BodyPublishers.noBody()).build());
+            }
+        });
+        define(defaults, "likes.status", 6, client -> {
+            List<UUID> ideaIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ideaIds.add(client.skewed(dataset.ideaIds));
+            }
+            client.send("likes.status", json(client, "/api/likes/status", "POST",
+                Map.of("userId", client.skewed(dataset.userIds), "ideaIds", ideaIds)));
+        });
+        define(defaults, "likes.count", 4, client ->
+            client.get("likes.count", "/api/likes/ideas/" + client.skewed(dataset.ideaIds) + "/count"));
+        define(defaults, "evidence.list", 4, client ->
+            client.get("evidence.list", "/api/evidence/project/" + client.skewed(dataset.projectIds) + "?limit=20"));
+        define(defaults, "evidence.get", 3, client ->
+            client.get("evidence.get", "/api/evidence/" + client.skewed(dataset.evidenceIds)));
+        define(defaults, "evidence.content", 2, client ->
+            client.get("evidence.content", "/api/evidence/" + client.skewed(dataset.evidenceIds) + "/content"));
+        define(defaults, "evidence.upload", 1, client -> {
+            byte[] content = new byte[options.getInt("evidence-bytes", 16384)];
+            client.random.nextBytes(content);
+            ByteBuffer.wrap(content).putLong(System.nanoTime());
+            MultipartBody multipart = new MultipartBody()
+                .field("projectId", client.skewed(dataset.projectIds))
+                .field("uploadedBy", client.skewed(dataset.userIds))
+                .field("title", "Load test upload")
+                .field("category", "logs")
+                .file("file", "upload.bin", "application/octet-stream", content);
+            client.send("evidence.upload", client.request("/api/evidence/upload")
+                .header("Content-Type", multipart.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart.toByteArray())).build());
+        });
+        define(defaults, "deployments.list", 3, client ->
+            client.get("deployments.list", "/api/deployments?employeeId=" + client.skewed(dataset.employeeIds) + "&size=20"));
+        define(defaults, "testLogs.list", 2, client ->
+            client.get("testLogs.list", "/api/test-logs/endpoint/" + client.skewed(dataset.endpointIds) + "?limit=20"));
+        define(defaults, "testLogs.create", 3, client ->
+            client.send("testLogs.create", json(client, "/api/test-logs", "POST",
+                DatasetGenerator.testLog(dataset, client.random))));
+        define(defaults, "tags.list", 2, client -> client.get("tags.list", "/api/tags"));
+        define(defaults, "employees.get", 2, client ->
+            client.get("employees.get", "/api/employees/" + client.skewed(dataset.employeeIds)));
+
+        for (String name : weights.keySet()) {
+            if (!defaults.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown operation in --mix: " + name + ", expected one of " + defaults.keySet());
+            }
+        }
+        for (Operation operation : defaults.values()) {
+            int weight = weights.getOrDefault(operation.name(), operation.weight());
+            if (weight > 0) {
+                operations.add(new Operation(operation.name(), weight, operation.action()));
+            }
+        }
+    }
+
+    private static void define(Map<String, Operation> operations, String name, int weight, Action action) {
+        operations.put(name, new Operation(name, weight, action));
+    }
+
+    private void run() throws Exception {
+        defineOperations();
+        long seed = options.getLong("seed", 42);
+        Duration warmup = options.getDuration("warmup", "10s");
+        Duration stepDuration = options.getDuration("step-duration", "20s");
+        List<Map<String, Object>> steps = new ArrayList<>();
+        try (LoadTestApplication application = LoadTestApplication.start("httpload", options.applicationArgs())) {
+            baseUrl = "http://localhost:" + application.port();
+            dataset = new DatasetGenerator(application, seed).generate(DatasetGenerator.Size.from(options));
+            for (int clients : options.getIntList("clients", "1,4,16,32")) {
+                runStep(clients, warmup, seed);
+                Map<String, LatencyRecorder> recorders = runStep(clients, stepDuration, seed);
+                steps.add(report(clients, stepDuration, recorders));
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("javaVersion", Runtime.version().feature());
+        result.put("datasetSize", DatasetGenerator.Size.from(options));
+        result.put("weights", operations.stream().collect(LinkedHashMap::new,
+            (map, operation) -> map.put(operation.name(), operation.weight()), Map::putAll));
+        result.put("steps", steps);
+        Path output = Path.of(options.get("output", "target/http-load-test.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        objectMapper.writeValue(output.toFile(), result);
+        System.out.println("Results written to " + output);
+    }
+
+    private Map<String, LatencyRecorder> runStep(int clients, Duration length, long seed) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        Duration thinkTime = options.getDuration("think-time", "0ms");
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        List<Client> running = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Client client = new Client(new Random(seed + i));
+                running.add(client);
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        int pick = client.random.nextInt(totalWeight);
+                        Operation operation = operations.get(0);
+                        for (Operation candidate : operations) {
+                            operation = candidate;
+                            pick -= candidate.weight();
+                            if (pick < 0) {
+                                break;
+                            }
+                        }
+                        operation.action().run(client);
+                        if (!thinkTime.isZero()) {
+                            Thread.sleep(thinkTime.toMillis());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Map<String, List<LatencyRecorder>> byOperation = new TreeMap<>();
+        for (Client client : running) {
+            client.recorders.forEach((name, recorder) -> byOperation.computeIfAbsent(name, n -> new ArrayList<>()).add(recorder));
+        }
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        byOperation.forEach((name, recorders) -> merged.put(name, LatencyRecorder.merge(recorders)));
+        merged.put("total", LatencyRecorder.merge(byOperation.values().stream().flatMap(List::stream).toList()));
+        return merged;
+    }
+
+    private Map<String, Object> report(int clients, Duration length, Map<String, LatencyRecorder> recorders) {
+        double seconds = length.toMillis() / 1000.0;
+        System.out.printf("%n%d client(s), %.0fs%n", clients, seconds);
+        System.out.printf("%-18s %9s %9s %8s %8s %8s %8s %8s%n",
+            "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> {
+            System.out.printf("%-18s %9d %9.1f %8d %8.2f %8.2f %8.2f %8.2f%n", name, recorder.count(),
+                recorder.count() / seconds, recorder.errors(), recorder.percentileMillis(50),
+                recorder.percentileMillis(90), recorder.percentileMillis(99), recorder.percentileMillis(100));
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", recorder.count());
+            endpoint.put("requestsPerSecond", recorder.count() / seconds);
+            endpoint.put("errors", recorder.errors());
+            endpoint.put("p50Ms", recorder.percentileMillis(50));
+            endpoint.put("p90Ms", recorder.percentileMillis(90));
+            endpoint.put("p99Ms", recorder.percentileMillis(99));
+            endpoint.put("maxMs", recorder.percentileMillis(100));
+            endpoints.put(name, endpoint);
+        });
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("clients", clients);
+        step.put("durationSeconds", seconds);
+        step.put("endpoints", endpoints);
+        return step;
+    }
+
+    private HttpRequest json(Client client, String path, String method, Object body) throws IOException {
+        return client.request(path).header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+    }
+
+    private static int pages(int rows) {
+        return Math.max(1, Math.min(50, rows / 20));
+    }
+
+    // State of one client thread: its random source and its own latency recorders, merged once the step is over
+    private class Client {
+        private final Random random;
+        private final Map<String, LatencyRecorder> recorders = new HashMap<>();
+
+        private Client(Random random) {
+            this.random = random;
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+        }
+
+        private String get(String name, String path) throws InterruptedException {
+            return send(name, request(path).GET().build());
+        }
+
+        // The response body, or null when the request failed; either way the outcome is recorded under name
+        private String send(String name, HttpRequest request) throws InterruptedException {
+            LatencyRecorder recorder = recorders.computeIfAbsent(name, n -> new LatencyRecorder());
+            long started = System.nanoTime();
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() / 100 == 2) {
+                    recorder.record(System.nanoTime() - started);
+                    return response.body();
+                }
+                recorder.error();
+            } catch (IOException ex) {
+                recorder.error();
+            }
+            return null;
+        }
+
+        private <T> T skewed(List<T> values) {
+            return DatasetGenerator.skewed(random, values);
+        }
+
+        private int skewedIndex(int size) {
+            double r = random.nextDouble();
+            return (int) (r * r * size);
+        }
+    }
+}
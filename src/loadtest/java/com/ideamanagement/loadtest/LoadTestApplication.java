@@ -0,0 +1,64 @@
+package com.ideamanagement.loadtest;
+
+import com.ideamanagement.IdeamanagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// The application on a random port with an in-memory H2 database in MySQL mode and its upload, search index and
+// trending checkpoint directories under one temp directory, removed again on close
+public class LoadTestApplication implements AutoCloseable {
+    private final Path workDir;
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestApplication(Path workDir, ConfigurableApplicationContext context) {
+        this.workDir = workDir;
+        this.context = context;
+    }
+
+    // Extra arguments are Spring properties in --name=value form and win over the defaults set here
+    public static LoadTestApplication start(String database, String... extraArgs) throws IOException {
+        Path workDir = Files.createTempDirectory("ideamanagement-loadtest");
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--evidence.storage.root=" + workDir.resolve("evidence"),
+            "--search.index.dir=" + workDir.resolve("search-index"),
+            "--trending.checkpoint-file=" + workDir.resolve("trending-checkpoint.csv")));
+        args.addAll(List.of(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(IdeamanagementApplication.class)
+            .run(args.toArray(String[]::new));
+        return new LoadTestApplication(workDir, context);
+    }
+
+    public int port() {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+}
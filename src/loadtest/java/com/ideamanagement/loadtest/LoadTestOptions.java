@@ -0,0 +1,63 @@
+package com.ideamanagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --name=value options of a load test run. Options starting with spring. are not the run's own: they are handed to
+// the application under test, e.g. to point it at MySQL instead of the in-memory H2 database
+public class LoadTestOptions {
+    private final Map<String, String> values = new HashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            if (arg.startsWith("--spring.")) {
+                options.applicationArgs.add(arg);
+            } else {
+                options.values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    public String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    public Duration getDuration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(get(name, defaultValue));
+    }
+
+    // A comma-separated list such as --clients=8,16,32
+    public List<Integer> getIntList(String name, String defaultValue) {
+        List<Integer> list = new ArrayList<>();
+        for (String value : get(name, defaultValue).split(",")) {
+            list.add(Integer.parseInt(value.trim()));
+        }
+        return list;
+    }
+
+    // The given application arguments followed by the spring.* options of the run, which therefore win
+    public String[] applicationArgs(String... args) {
+        List<String> all = new ArrayList<>(List.of(args));
+        all.addAll(applicationArgs);
+        return all.toArray(String[]::new);
+    }
+}
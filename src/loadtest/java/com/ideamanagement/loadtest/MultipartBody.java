@@ -0,0 +1,39 @@
+package com.ideamanagement.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+// A multipart/form-data request body built in memory, for the upload endpoints
+public class MultipartBody {
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    public MultipartBody field(String name, Object value) {
+        write("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n");
+        return this;
+    }
+
+    public MultipartBody file(String name, String fileName, String contentType, byte[] content) {
+        write("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName
+            + "\"\r\nContent-Type: " + contentType + "\r\n\r\n");
+        body.writeBytes(content);
+        write("\r\n");
+        return this;
+    }
+
+    public String contentType() {
+        return "multipart/form-data; boundary=" + BOUNDARY;
+    }
+
+    public byte[] toByteArray() {
+        ByteArrayOutputStream complete = new ByteArrayOutputStream(body.size() + 32);
+        complete.writeBytes(body.toByteArray());
+        complete.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return complete.toByteArray();
+    }
+
+    private void write(String text) {
+        body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
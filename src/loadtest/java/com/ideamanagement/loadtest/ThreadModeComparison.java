@@ -0,0 +1,243 @@
+package com.ideamanagement.loadtest;
+
+import com.ideamanagement.config.VirtualThreadConfig;
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.ProjectDto;
+import com.ideamanagement.dto.UserDto;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.EmployeeService;
+import com.ideamanagement.service.IdeaService;
+import com.ideamanagement.service.ProjectService;
+import com.ideamanagement.service.UserService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs the same workload against the application on Tomcat's platform thread pool and on virtual threads: readers
+// fetch single ideas as fast as they can while slow clients trickle evidence uploads in, each holding a request
+// thread for the whole upload. Reports read throughput and latency percentiles per mode, on stdout and as JSON.
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.ideamanagement.loadtest.ThreadModeComparison \
+//       -Dloadtest.args="--duration=30s --slow-uploaders=64"
+//
+// Options (defaults): --duration (20s) --warmup (5s) --readers (32) --slow-uploaders (32) --tomcat-threads (16)
+// --upload-size (65536) --upload-chunks (8) --chunk-pause (250ms) --output (target/thread-mode-comparison.json)
+// The virtual-thread run needs Java 21; on an older runtime it is reported as skipped.
+public class ThreadModeComparison {
+    private final LoadTestOptions options;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int readers;
+    private final int slowUploaders;
+    private final int uploadSize;
+    private final int uploadChunks;
+    private final Duration chunkPause;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private ThreadModeComparison(LoadTestOptions options) {
+        this.options = options;
+        this.duration = options.getDuration("duration", "20s");
+        this.warmup = options.getDuration("warmup", "5s");
+        this.readers = options.getInt("readers", 32);
+        this.slowUploaders = options.getInt("slow-uploaders", 32);
+        this.uploadSize = options.getInt("upload-size", 65536);
+        this.uploadChunks = options.getInt("upload-chunks", 8);
+        this.chunkPause = options.getDuration("chunk-pause", "250ms");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ThreadModeComparison(LoadTestOptions.parse(args)).run();
+        // Scheduler threads of the closed contexts must not keep the JVM alive
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        String tomcatThreads = options.get("tomcat-threads", "16");
+        List<String> results = new ArrayList<>();
+        System.out.printf("%-9s %10s %10s %9s %9s %9s %9s %9s%n",
+            "mode", "reads", "reads/s", "p50 ms", "p99 ms", "max ms", "uploads", "errors");
+        for (String mode : List.of("platform", "virtual")) {
+            boolean virtual = mode.equals("virtual");
+            if (virtual && !VirtualThreadConfig.isSupported()) {
+                System.out.printf("%-9s skipped: Java %d has no virtual threads%n", mode, Runtime.version().feature());
+                results.add("{\"mode\":\"" + mode + "\",\"skipped\":true,\"javaVersion\":" + Runtime.version().feature() + "}");
+                continue;
+            }
+            try (LoadTestApplication application = LoadTestApplication.start("threads_" + mode,
+                    options.applicationArgs("--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + tomcatThreads))) {
+                Workload workload = seed(application);
+                runPhase(application.port(), workload, warmup);
+                PhaseResult result = runPhase(application.port(), workload, duration);
+                LatencyRecorder reads = LatencyRecorder.merge(result.readRecorders);
+                double seconds = duration.toMillis() / 1000.0;
+                long errors = reads.errors() + result.uploadErrors.get();
+                System.out.printf("%-9s %10d %10.1f %9.2f %9.2f %9.2f %9d %9d%n", mode, reads.count(),
+                    reads.count() / seconds, reads.percentileMillis(50), reads.percentileMillis(99),
+                    reads.percentileMillis(100), result.uploads.get(), errors);
+                results.add(String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"skipped\":false,\"javaVersion\":%d,\"tomcatThreads\":%s,\"readers\":%d,"
+                        + "\"slowUploaders\":%d,\"durationSeconds\":%.1f,\"reads\":%d,\"readsPerSecond\":%.1f,"
+                        + "\"readP50Ms\":%.3f,\"readP99Ms\":%.3f,\"readMaxMs\":%.3f,\"uploads\":%d,\"errors\":%d}",
+                    mode, Runtime.version().feature(), tomcatThreads, readers, slowUploaders, seconds,
+                    reads.count(), reads.count() / seconds, reads.percentileMillis(50), reads.percentileMillis(99),
+                    reads.percentileMillis(100), result.uploads.get(), errors));
+            }
+        }
+        Path output = Path.of(options.get("output", "target/thread-mode-comparison.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, "[\n  " + String.join(",\n  ", results) + "\n]\n");
+        System.out.println("Results written to " + output);
+    }
+
+    private Workload seed(LoadTestApplication application) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setFirstName("Load");
+        employee.setLastName("Test");
+        employee.setEmail("load.test@example.com");
+        employee.setStatus("ACTIVE");
+        UUID employeeId = application.bean(EmployeeService.class).createEmployee(employee).getId();
+
+        UserDto user = new UserDto();
+        user.setUsername("loadtest");
+        user.setEmail("loadtest@example.com");
+        user.setFullName("Load Test");
+        user.setPassword("loadtest-password");
+        UUID userId = application.bean(UserService.class).createUser(user).getId();
+
+        ProjectDto project = new ProjectDto();
+        project.setName("loadtest");
+        project.setEmployeeId(employeeId);
+        UUID projectId = application.bean(ProjectService.class).createProject(project).getId();
+
+        IdeaService ideaService = application.bean(IdeaService.class);
+        List<UUID> ideaIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            IdeaDto idea = new IdeaDto();
+            idea.setTitle("Load test idea " + i);
+            idea.setDescription("Seeded for the thread mode comparison");
+            idea.setPriority(Idea.Priority.MEDIUM);
+            idea.setStatus(Idea.Status.PENDING);
+            idea.setEmployeeId(employeeId);
+            ideaIds.add(ideaService.createIdea(idea).getId());
+        }
+        return new Workload(employeeId, userId, projectId, ideaIds);
+    }
+
+    private PhaseResult runPhase(int port, Workload workload, Duration length) throws Exception {
+        PhaseResult result = new PhaseResult();
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(readers + slowUploaders);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                result.readRecorders.add(recorder);
+                running.add(clients.submit(() -> read(port, workload, deadline, recorder)));
+            }
+            for (int i = 0; i < slowUploaders; i++) {
+                running.add(clients.submit(() -> upload(port, workload, deadline, result)));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return result;
+    }
+
+    private void read(int port, Workload workload, long deadline, LatencyRecorder recorder) {
+        while (System.nanoTime() < deadline) {
+            UUID ideaId = workload.ideaIds.get(ThreadLocalRandom.current().nextInt(workload.ideaIds.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/ideas/"
+                + ideaId + "?employeeId=" + workload.employeeId)).timeout(Duration.ofSeconds(60)).build();
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    recorder.record(System.nanoTime() - started);
+                } else {
+                    recorder.error();
+                }
+            } catch (IOException ex) {
+                recorder.error();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // A raw socket, because the body has to reach the server slowly: Tomcat parses the multipart request on the
+    // request thread, so each upload holds that thread until its last chunk arrives
+    private void upload(int port, Workload workload, long deadline, PhaseResult result) {
+        while (System.nanoTime() < deadline) {
+            byte[] content = new byte[uploadSize];
+            ThreadLocalRandom.current().nextBytes(content);
+            ByteBuffer.wrap(content).putLong(System.nanoTime());
+            MultipartBody multipart = new MultipartBody()
+                .field("projectId", workload.projectId)
+                .field("uploadedBy", workload.userId)
+                .field("title", "Slow upload")
+                .field("category", "loadtest")
+                .file("file", "upload.bin", "application/octet-stream", content);
+            byte[] body = multipart.toByteArray();
+            try (Socket socket = new Socket("localhost", port)) {
+                socket.setSoTimeout(60_000);
+                OutputStream out = socket.getOutputStream();
+                out.write(("POST /api/evidence/upload HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Type: " + multipart.contentType() + "\r\n"
+                    + "Content-Length: " + body.length + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                int chunkSize = (body.length + uploadChunks - 1) / uploadChunks;
+                for (int offset = 0; offset < body.length; offset += chunkSize) {
+                    out.write(body, offset, Math.min(chunkSize, body.length - offset));
+                    out.flush();
+                    Thread.sleep(chunkPause.toMillis());
+                }
+                String status = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+                if (status != null && status.startsWith("HTTP/1.1 200")) {
+                    result.uploads.incrementAndGet();
+                } else {
+                    result.uploadErrors.incrementAndGet();
+                }
+            } catch (IOException ex) {
+                result.uploadErrors.incrementAndGet();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record Workload(UUID employeeId, UUID userId, UUID projectId, List<UUID> ideaIds) {
+    }
+
+    private static class PhaseResult {
+        private final List<LatencyRecorder> readRecorders = new ArrayList<>();
+        private final AtomicLong uploads = new AtomicLong();
+        private final AtomicLong uploadErrors = new AtomicLong();
+    }
+}
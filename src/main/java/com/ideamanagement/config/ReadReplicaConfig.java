@@ -0,0 +1,95 @@
+package com.ideamanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sends read-only transactions to read replicas. The application's DataSource takes no real connection until the
+// first statement, by which time a read-only transaction has marked the connection read-only; it then comes from
+// ReplicaRoutingDataSource instead of the primary pool. Spring Data's own read-only finders are routed the same way
+@Configuration
+@ConditionalOnProperty(name = "datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+    private final Map<String, HikariDataSource> replicaPools = new LinkedHashMap<>();
+    private HikariDataSource primaryPool;
+    private ReplicaRoutingDataSource replicaRouting;
+
+    // Picked up by Spring Boot and registered with the transaction manager
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.read-replicas.sticky-window:5s}") Duration window) {
+        return new ReadYourWrites(window);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 ReadYourWrites readYourWrites,
+                                 @Value("${datasource.read-replicas.urls:}") List<String> urls,
+                                 @Value("${datasource.read-replicas.username:${spring.datasource.username:}}") String username,
+                                 @Value("${datasource.read-replicas.password:${spring.datasource.password:}}") String password,
+                                 @Value("${datasource.read-replicas.max-pool-size:10}") int maxPoolSize,
+                                 @Value("${datasource.read-replicas.max-lag:5s}") Duration maxLag) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("datasource.read-replicas.enabled is set but datasource.read-replicas.urls is empty");
+        }
+        primaryPool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primaryPool.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaryPool));
+
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicaPools.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maxPoolSize);
+            replica.setReadOnly(true);
+            // Spring Boot only instruments the pool behind the DataSource bean, which is the primary
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicaPools.put(replica.getPoolName(), replica);
+        }
+        replicaRouting = new ReplicaRoutingDataSource(primaryPool, replicaPools, maxLag, readYourWrites);
+        replicaPools.keySet().forEach(name -> Gauge.builder("datasource.replica.lag", () -> replicaRouting.lagSeconds(name))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryPool);
+        dataSource.setReadOnlyDataSource(replicaRouting);
+        return dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.read-replicas.lag-check-interval-ms:1000}")
+    public void checkReplicaLag() {
+        if (replicaRouting != null) {
+            replicaRouting.checkLag();
+        }
+    }
+
+    // The DataSource bean is a proxy without a close method, so the pools are closed here
+    @PreDestroy
+    public void closePools() {
+        replicaPools.values().forEach(HikariDataSource::close);
+        if (primaryPool != null) {
+            primaryPool.close();
+        }
+    }
+}
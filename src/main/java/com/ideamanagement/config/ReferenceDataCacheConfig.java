@@ -0,0 +1,76 @@
+package com.ideamanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Second-level cache for reference data that is read on most requests but rarely written. Hibernate keeps the
+// cached entities and cached name lookups in step with every write it makes; the regions are Caffeine caches,
+// bounded in size and age, whose hit and miss counts are published as JCache statistics MBeans
+@Configuration
+public class ReferenceDataCacheConfig {
+    // The region names given in the entities' @Cache annotations
+    private static final List<String> ENTITY_REGIONS = List.of("roles", "tags", "environments", "projects",
+            "vault-settings", "subscriptions");
+
+    // A cache manager of its own rather than the provider's default one, which is shared by every application
+    // context in the JVM, as in the tests, and would already hold these regions for the second one
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceDataCacheManager(@Value("${cache.reference.max-size:10000}") long maxSize,
+                                                  @Value("${cache.reference.ttl:10m}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("reference-data-" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maxSize), OptionalLong.of(ttl.toNanos())));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(OptionalLong.of(maxSize), OptionalLong.of(ttl.toNanos())));
+        // Cached query results are checked against these per-table write times, so they must never be dropped
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+    }
+
+    // Gets, hits, misses, puts and evictions per region from the JCache statistics; the hit ratio is derived from
+    // cache.gets{result=hit|miss} where the metrics are queried
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(CacheManager referenceDataCacheManager) {
+        return registry -> {
+            for (String region : referenceDataCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, referenceDataCacheManager.getCache(region));
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maxSize, OptionalLong ttlNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStatisticsEnabled(true);
+        // Hibernate already caches a disassembled copy of each entity, so a second copy per read buys nothing
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
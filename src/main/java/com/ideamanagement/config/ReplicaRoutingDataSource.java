@@ -0,0 +1,113 @@
+package com.ideamanagement.config;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Where read-only transactions get their connection: the usable replicas in turn, or the primary when none is
+// usable or the user has just written. A replica is usable while it answers and, unless max-lag is zero, has
+// replicated the heartbeat the primary was given on the previous check, or one no older than max-lag
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Duration maxLag;
+    private final ReadYourWrites readYourWrites;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> usable = List.of();
+    private boolean heartbeatTableCreated;
+    private long lastHeartbeat;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas, Duration maxLag,
+                                    ReadYourWrites readYourWrites) {
+        this.primary = new JdbcTemplate(primary);
+        replicas.forEach((name, replica) -> this.replicas.put(name, new JdbcTemplate(replica)));
+        this.maxLag = maxLag;
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> candidates = usable;
+        if (candidates.isEmpty() || readYourWrites.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    // Seconds the replica is behind, NaN while it cannot be reached
+    public double lagSeconds(String replica) {
+        return lagSeconds.getOrDefault(replica, Double.NaN);
+    }
+
+    // Reads the heartbeat each replica has, then writes a new one to the primary. Only called by the scheduler
+    public synchronized void checkLag() {
+        long now = System.currentTimeMillis();
+        List<String> nowUsable = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            String problem;
+            try {
+                double lag = maxLag.isZero() ? ping(replica) : lag(replica, now);
+                lagSeconds.put(name, lag);
+                problem = lag * 1000 > maxLag.toMillis() && !maxLag.isZero() ? String.format("%.1fs behind the primary", lag) : null;
+            } catch (DataAccessException ex) {
+                lagSeconds.remove(name);
+                problem = "unreachable: " + ex.getMessage();
+            }
+            if (problem == null) {
+                nowUsable.add(name);
+            }
+            if ((problem == null) != usable.contains(name)) {
+                System.err.println(problem == null ? "Read replica " + name + " is back in use"
+                        : "Read replica " + name + " is out of use, reads go to the other replicas or the primary: " + problem);
+            }
+        });
+        usable = List.copyOf(nowUsable);
+        if (!maxLag.isZero()) {
+            beat(now);
+        }
+    }
+
+    private double ping(JdbcTemplate replica) {
+        replica.queryForObject("SELECT 1", Integer.class);
+        return 0;
+    }
+
+    private double lag(JdbcTemplate replica, long now) {
+        Long heartbeat = replica.queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+        // Other instances write the same row, so the replica may hold a later heartbeat than our own last one
+        return heartbeat >= lastHeartbeat ? 0 : (now - heartbeat) / 1000.0;
+    }
+
+    private void beat(long now) {
+        try {
+            if (!heartbeatTableCreated) {
+                primary.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+                heartbeatTableCreated = true;
+            }
+            if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+            lastHeartbeat = now;
+        } catch (DataAccessException ex) {
+            System.err.println("Could not write the replication heartbeat: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ideamanagement.config;
+
+import com.ideamanagement.service.SlowQueryLog;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.NanoTimeStopwatchFactory;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Wraps the connection pool in a datasource-proxy so that every statement, whether it comes from Hibernate or
+// from JdbcTemplate, is timed where it is executed and handed to the SlowQueryLog
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourceProxy(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                                             @Value("${sql.slow-query.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSource proxy = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new SlowQueryListener(slowQueryLog))
+                        .build();
+                proxy.setProxyConfig(ProxyConfig.Builder.from(proxy.getProxyConfig())
+                        .stopwatchFactory(new NanoTimeStopwatchFactory())
+                        .build());
+                return proxy;
+            }
+        };
+    }
+
+    private static class SlowQueryListener implements QueryExecutionListener {
+        private final ObjectProvider<SlowQueryLog> provider;
+        // The log needs the data source itself, so it is looked up on the first statement rather than injected
+        private volatile SlowQueryLog slowQueryLog;
+
+        SlowQueryListener(ObjectProvider<SlowQueryLog> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SlowQueryLog log = slowQueryLog;
+            if (log == null) {
+                log = provider.getIfAvailable();
+                if (log == null) {
+                    return;
+                }
+                slowQueryLog = log;
+            }
+            // A batch is timed as a whole, so it is recorded once per statement text with the batch's time
+            for (QueryInfo query : queryInfoList) {
+                log.record(query.getQuery(), execInfo.getElapsedTime(), execInfo.isSuccess(), () -> parameters(query));
+            }
+        }
+
+        private static List<Object> parameters(QueryInfo query) {
+            if (query.getParametersList().isEmpty()) {
+                return List.of();
+            }
+            List<ParameterSetOperation> operations = new ArrayList<>(query.getParametersList().get(0));
+            operations.sort(Comparator.comparingInt(operation -> operation.getArgs()[0] instanceof Integer index ? index : 0));
+            List<Object> values = new ArrayList<>();
+            for (ParameterSetOperation operation : operations) {
+                values.add(ParameterSetOperation.isSetNullParameterOperation(operation) ? null : operation.getArgs()[1]);
+            }
+            return values;
+        }
+    }
+}
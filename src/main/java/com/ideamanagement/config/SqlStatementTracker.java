@@ -0,0 +1,74 @@
+package com.ideamanagement.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+// Sees every statement Hibernate prepares and, while a request is being tracked on the current thread, counts it
+// by shape: the SQL with literals and IN-list lengths folded away, so the same query for different rows counts as
+// one shape. Statements sent through JdbcTemplate (imports, exports, the upvote flush) are not seen
+@Component
+public class SqlStatementTracker implements StatementInspector, HibernatePropertiesCustomizer {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.count++;
+            statements.byShape.merge(shape(sql), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    public static Statements begin() {
+        Statements statements = new Statements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    // Statements of one request; only touched by the thread handling it
+    public static class Statements {
+        private int count;
+        private final Map<String, Integer> byShape = new HashMap<>();
+
+        public int count() {
+            return count;
+        }
+
+        // The shape issued most often, or null if there was no statement
+        public Entry<String, Integer> mostRepeated() {
+            return byShape.entrySet().stream().max(Entry.comparingByValue()).orElse(null);
+        }
+
+        public int maxRepeats() {
+            Entry<String, Integer> mostRepeated = mostRepeated();
+            return mostRepeated != null ? mostRepeated.getValue() : 0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ideamanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+// Holds every request to a budget of Hibernate statements. The count so far goes out in the X-SQL-Statements
+// header (and the most repeated shape's count in X-SQL-Max-Repeats) when the response starts, and the final
+// counts are recorded per endpoint as sql.statements.per.request and sql.statements.max.repeats. A request
+// over sql.budget.max-statements, or repeating one statement shape more than sql.budget.max-repeats times (the
+// N+1 pattern), is logged with the offending shape, or fails with an IllegalStateException when
+// sql.budget.fail-on-violation is set, which is meant for tests
+@Component
+public class StatementBudgetFilter extends OncePerRequestFilter {
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String MAX_REPEATS_HEADER = "X-SQL-Max-Repeats";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean failOnViolation;
+
+    public StatementBudgetFilter(MeterRegistry meterRegistry,
+                                 @Value("${sql.budget.enabled:true}") boolean enabled,
+                                 @Value("${sql.budget.max-statements:30}") int maxStatements,
+                                 @Value("${sql.budget.max-repeats:5}") int maxRepeats,
+                                 @Value("${sql.budget.fail-on-violation:false}") boolean failOnViolation) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementTracker.Statements statements = SqlStatementTracker.begin();
+        CountingResponse countingResponse = new CountingResponse(response, statements);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            SqlStatementTracker.end();
+        }
+        countingResponse.addCountHeaders();
+        check(request, statements);
+    }
+
+    private void check(HttpServletRequest request, SqlStatementTracker.Statements statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("sql.statements.per.request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements.count());
+        DistributionSummary.builder("sql.statements.max.repeats")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements.maxRepeats());
+
+        if (statements.count() <= maxStatements && statements.maxRepeats() <= maxRepeats) {
+            return;
+        }
+        Map.Entry<String, Integer> mostRepeated = statements.mostRepeated();
+        String message = request.getMethod() + " " + uri + " issued " + statements.count()
+                + " SQL statements (budget " + maxStatements + "); most repeated, " + mostRepeated.getValue()
+                + " times (limit " + maxRepeats + "): " + abbreviate(mostRepeated.getKey());
+        if (failOnViolation) {
+            throw new IllegalStateException("SQL statement budget exceeded: " + message);
+        }
+        System.err.println("SQL statement budget exceeded: " + message);
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() > 300 ? singleLine.substring(0, 300) + "..." : singleLine;
+    }
+
+    // Adds the count headers just before the response is committed: once the body starts, headers are final
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private final SqlStatementTracker.Statements statements;
+        private boolean headersAdded;
+
+        CountingResponse(HttpServletResponse response, SqlStatementTracker.Statements statements) {
+            super(response);
+            this.statements = statements;
+        }
+
+        void addCountHeaders() {
+            if (!headersAdded && !isCommitted()) {
+                headersAdded = true;
+                setHeader(STATEMENTS_HEADER, Integer.toString(statements.count()));
+                setHeader(MAX_REPEATS_HEADER, Integer.toString(statements.maxRepeats()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
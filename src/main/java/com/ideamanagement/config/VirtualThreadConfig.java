@@ -0,0 +1,85 @@
+package com.ideamanagement.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+// spring.threads.virtual.enabled moves Tomcat's request handling, @Scheduled jobs and Spring's task executor onto
+// virtual threads, so a slow upload or query parks a cheap virtual thread instead of holding a pooled one. Spring
+// Boot only honours the flag on Java 21 or later; on an older runtime the platform thread pools stay in place and
+// that is reported at start-up. The evidence post-processing pool stays on platform threads either way: its work
+// is CPU-bound and it is deliberately small and low-priority.
+// While virtual threads are on, a JFR stream logs every time one pins its carrier thread for longer than the
+// threshold (typically a blocking call inside a synchronized block, e.g. in a JDBC driver), with its stack.
+@Configuration
+public class VirtualThreadConfig {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final boolean enabled;
+    private final Duration pinnedThreshold;
+    private final int pinnedStackDepth;
+    private RecordingStream pinnedEvents;
+
+    public VirtualThreadConfig(@Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+                               @Value("${threads.virtual.pinned-threshold:20ms}") Duration pinnedThreshold,
+                               @Value("${threads.virtual.pinned-stack-depth:8}") int pinnedStackDepth) {
+        this.enabled = enabled;
+        this.pinnedThreshold = pinnedThreshold;
+        this.pinnedStackDepth = pinnedStackDepth;
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!isSupported()) {
+            System.err.println("spring.threads.virtual.enabled is set, but Java " + Runtime.version().feature()
+                    + " has no virtual threads; requests and background work stay on platform thread pools");
+            return;
+        }
+        pinnedEvents = new RecordingStream();
+        pinnedEvents.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+        pinnedEvents.onEvent(PINNED_EVENT, this::logPinned);
+        pinnedEvents.startAsync();
+        System.err.println("Virtual threads enabled; logging carrier pinning longer than " + pinnedThreshold.toMillis() + "ms");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pinnedEvents != null) {
+            pinnedEvents.close();
+        }
+    }
+
+    private void logPinned(RecordedEvent event) {
+        StringBuilder line = new StringBuilder("Virtual thread ");
+        if (event.getThread() != null) {
+            line.append('"').append(event.getThread().getJavaName()).append("\" ");
+        }
+        line.append("pinned its carrier for ").append(event.getDuration().toMillis()).append("ms");
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> frames = stackTrace.getFrames();
+            for (int i = 0; i < Math.min(pinnedStackDepth, frames.size()); i++) {
+                RecordedFrame frame = frames.get(i);
+                line.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+        }
+        System.err.println(line);
+    }
+}
@@ -90,10 +90,17 @@ public class ApiEndpointController {
         @ApiResponse(responseCode = "200", description = "API endpoints retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiEndpointDto>> getAllEndpoints(
+    public ResponseEntity<?> getAllEndpoints(
         @RequestParam UUID employeeId,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiEndpointService.scrollEndpoints(employeeId, null, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(apiEndpointService.getAllEndpoints(employeeId, pageable));
     }
 
@@ -103,11 +110,18 @@ public class ApiEndpointController {
         @ApiResponse(responseCode = "200", description = "API endpoints retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiEndpointDto>> getEndpointsByStatus(
+    public ResponseEntity<?> getEndpointsByStatus(
         @Parameter(description = "Status of the API endpoints", required = true)
         @PathVariable ApiEndpoint.Status status,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiEndpointService.scrollEndpoints(null, status, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(apiEndpointService.getEndpointsByStatus(status, pageable));
     }
 
@@ -117,11 +131,18 @@ public class ApiEndpointController {
         @ApiResponse(responseCode = "200", description = "API endpoints retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiEndpointDto>> getEndpointsByMethod(
+    public ResponseEntity<?> getEndpointsByMethod(
         @Parameter(description = "HTTP method of the API endpoints", required = true)
         @PathVariable ApiEndpoint.HttpMethod method,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiEndpointService.scrollEndpoints(null, null, method, null, cursor, limit));
+        }
         return ResponseEntity.ok(apiEndpointService.getEndpointsByMethod(method, pageable));
     }
 
@@ -131,11 +152,18 @@ public class ApiEndpointController {
         @ApiResponse(responseCode = "200", description = "API endpoints retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiEndpointDto>> getEndpointsByVersion(
+    public ResponseEntity<?> getEndpointsByVersion(
         @Parameter(description = "Version of the API endpoints", required = true)
         @PathVariable String version,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiEndpointService.scrollEndpoints(null, null, null, version, cursor, limit));
+        }
         return ResponseEntity.ok(apiEndpointService.getEndpointsByVersion(version, pageable));
     }
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.ideamanagement.controller;
 
+import com.ideamanagement.dto.ApiTestLogBatchResultDto;
 import com.ideamanagement.dto.ApiTestLogDto;
+import com.ideamanagement.service.ApiTestLogBatchService;
 import com.ideamanagement.service.ApiTestLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +15,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +29,7 @@ import java.util.UUID;
 // @CrossOrigin(origins = "*", allowCredentials = "true")
 public class ApiTestLogController {
     private final ApiTestLogService apiTestLogService;
+    private final ApiTestLogBatchService apiTestLogBatchService;
 
     @PostMapping
     @Operation(summary = "Create a new API test log", description = "Creates a new API test log with the provided details")
@@ -40,6 +45,35 @@ public class ApiTestLogController {
         return ResponseEntity.ok(apiTestLogService.createTestLog(testLogDto));
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Create API test logs in bulk",
+        description = "Stores a JSON array of test logs, each as accepted by POST /api/test-logs. Logs are committed in "
+            + "chunks; the result lists the new ID or the error for every log, in the order they were sent."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed",
+            content = @Content(schema = @Schema(implementation = ApiTestLogBatchResultDto.class))),
+        @ApiResponse(responseCode = "400", description = "The body is not a JSON array")
+    })
+    public ResponseEntity<ApiTestLogBatchResultDto> createTestLogsJson(InputStream content) {
+        return ResponseEntity.ok(apiTestLogBatchService.ingestJsonArray(content));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Create API test logs in bulk from NDJSON",
+        description = "Stores one test log per line, each a JSON test log as accepted by POST /api/test-logs. Lines are "
+            + "committed in chunks; the result lists the new ID or the error for every line, by line number."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed",
+            content = @Content(schema = @Schema(implementation = ApiTestLogBatchResultDto.class)))
+    })
+    public ResponseEntity<ApiTestLogBatchResultDto> createTestLogsNdjson(InputStream content) {
+        return ResponseEntity.ok(apiTestLogBatchService.ingestNdjson(content));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get API test log by ID", description = "Retrieves an API test log by its ID")
     @ApiResponses({
@@ -59,11 +93,18 @@ public class ApiTestLogController {
         @ApiResponse(responseCode = "200", description = "API test logs retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiTestLogDto>> getTestLogsByEndpointId(
+    public ResponseEntity<?> getTestLogsByEndpointId(
         @Parameter(description = "ID of the API endpoint", required = true)
         @PathVariable UUID endpointId,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiTestLogService.scrollTestLogs(endpointId, cursor, limit));
+        }
         return ResponseEntity.ok(apiTestLogService.getTestLogsByEndpointId(endpointId, pageable));
     }
 
@@ -73,9 +114,16 @@ public class ApiTestLogController {
         @ApiResponse(responseCode = "200", description = "API test logs retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<ApiTestLogDto>> getAllTestLogs(
+    public ResponseEntity<?> getAllTestLogs(
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(apiTestLogService.scrollTestLogs(null, cursor, limit));
+        }
         return ResponseEntity.ok(apiTestLogService.getAllTestLogs(pageable));
     }
 } 
\ No newline at end of file
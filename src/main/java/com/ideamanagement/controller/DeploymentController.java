@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -76,11 +77,17 @@ public class DeploymentController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Deployment retrieved successfully",
             content = @Content(schema = @Schema(implementation = DeploymentDto.class))),
+        @ApiResponse(responseCode = "304", description = "Deployment not modified since the supplied ETag"),
         @ApiResponse(responseCode = "404", description = "Deployment not found")
     })
     public ResponseEntity<DeploymentDto> getDeploymentById(
         @PathVariable UUID id,
-        @RequestParam UUID employeeId) {
+        @RequestParam UUID employeeId,
+        WebRequest request) {
+        String eTag = deploymentService.getDeploymentETag(id, employeeId);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(deploymentService.getDeploymentById(id, employeeId));
     }
 
@@ -88,12 +95,25 @@ public class DeploymentController {
     @Operation(summary = "Get all deployments", description = "Retrieves a list of all deployments with pagination")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Deployments retrieved successfully",
-            content = @Content(schema = @Schema(implementation = Page.class)))
+            content = @Content(schema = @Schema(implementation = Page.class))),
+        @ApiResponse(responseCode = "304", description = "No deployment of the employee changed since the supplied ETag")
     })
-    public ResponseEntity<Page<DeploymentDto>> getAllDeployments(
+    public ResponseEntity<?> getAllDeployments(
         @RequestParam UUID employeeId,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit,
+        WebRequest request) {
+        // One tag for every page of the list: it covers all of the employee's deployments
+        if (request.checkNotModified(deploymentService.getDeploymentListETag(employeeId))) {
+            return null;
+        }
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(deploymentService.scrollDeployments(employeeId, null, null, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(deploymentService.getAllDeployments(employeeId, pageable));
     }
 
@@ -103,11 +123,18 @@ public class DeploymentController {
         @ApiResponse(responseCode = "200", description = "Deployments retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<DeploymentDto>> getDeploymentsByEnvironment(
+    public ResponseEntity<?> getDeploymentsByEnvironment(
         @Parameter(description = "Environment name", required = true)
         @PathVariable String environment,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(deploymentService.scrollDeployments(null, environment, null, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(deploymentService.getDeploymentsByEnvironment(environment, pageable));
     }
 
@@ -117,11 +144,18 @@ public class DeploymentController {
         @ApiResponse(responseCode = "200", description = "Deployments retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<DeploymentDto>> getDeploymentsByStatus(
+    public ResponseEntity<?> getDeploymentsByStatus(
         @Parameter(description = "Deployment status", required = true)
         @PathVariable Deployment.DeploymentStatus status,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(deploymentService.scrollDeployments(null, null, status, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(deploymentService.getDeploymentsByStatus(status, pageable));
     }
 
@@ -131,11 +165,18 @@ public class DeploymentController {
         @ApiResponse(responseCode = "200", description = "Deployments retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<DeploymentDto>> getDeploymentsByHealth(
+    public ResponseEntity<?> getDeploymentsByHealth(
         @Parameter(description = "Health status", required = true)
         @PathVariable Deployment.HealthStatus health,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(deploymentService.scrollDeployments(null, null, null, health, null, cursor, limit));
+        }
         return ResponseEntity.ok(deploymentService.getDeploymentsByHealth(health, pageable));
     }
 
@@ -145,11 +186,18 @@ public class DeploymentController {
         @ApiResponse(responseCode = "200", description = "Deployments retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<DeploymentDto>> getDeploymentsByVersion(
+    public ResponseEntity<?> getDeploymentsByVersion(
         @Parameter(description = "Version number", required = true)
         @PathVariable String version,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(deploymentService.scrollDeployments(null, null, null, null, version, cursor, limit));
+        }
         return ResponseEntity.ok(deploymentService.getDeploymentsByVersion(version, pageable));
     }
 
@@ -101,8 +101,13 @@ public class EmployeeController {
         @ApiResponse(responseCode = "200", description = "Employees retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<EmployeeDto>> getAllEmployees(
-        @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+    public ResponseEntity<?> getAllEmployees(
+        @Parameter(description = "Pagination and sorting parameters") Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(employeeService.scrollEmployees(null, null, cursor, limit));
+        }
         return ResponseEntity.ok(employeeService.getAllEmployees(pageable));
     }
 
@@ -112,10 +117,15 @@ public class EmployeeController {
         @ApiResponse(responseCode = "200", description = "Employees retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<EmployeeDto>> getEmployeesByStatus(
+    public ResponseEntity<?> getEmployeesByStatus(
         @Parameter(description = "Employee status", required = true)
         @PathVariable Employee.Status status,
-        @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+        @Parameter(description = "Pagination and sorting parameters") Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(employeeService.scrollEmployees(status, null, cursor, limit));
+        }
         return ResponseEntity.ok(employeeService.getEmployeesByStatus(status, pageable));
     }
 
@@ -125,10 +135,15 @@ public class EmployeeController {
         @ApiResponse(responseCode = "200", description = "Employees retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<EmployeeDto>> getEmployeesByDepartment(
+    public ResponseEntity<?> getEmployeesByDepartment(
         @Parameter(description = "Department name", required = true)
         @PathVariable String department,
-        @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+        @Parameter(description = "Pagination and sorting parameters") Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(employeeService.scrollEmployees(null, department, cursor, limit));
+        }
         return ResponseEntity.ok(employeeService.getEmployeesByDepartment(department, pageable));
     }
 
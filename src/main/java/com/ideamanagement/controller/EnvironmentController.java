@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -74,11 +75,17 @@ public class EnvironmentController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Environment retrieved successfully",
             content = @Content(schema = @Schema(implementation = EnvironmentDto.class))),
+        @ApiResponse(responseCode = "304", description = "Environment not modified since the supplied ETag"),
         @ApiResponse(responseCode = "404", description = "Environment not found")
     })
     public ResponseEntity<EnvironmentDto> getEnvironmentById(
         @Parameter(description = "ID of the environment to retrieve", required = true)
-        @PathVariable UUID id) {
+        @PathVariable UUID id,
+        WebRequest request) {
+        String eTag = environmentService.getEnvironmentETag(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(environmentService.getEnvironmentById(id));
     }
 
@@ -99,11 +106,23 @@ public class EnvironmentController {
     @Operation(summary = "Get all environments", description = "Retrieves a list of all environments with pagination")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Environments retrieved successfully",
-            content = @Content(schema = @Schema(implementation = Page.class)))
+            content = @Content(schema = @Schema(implementation = Page.class))),
+        @ApiResponse(responseCode = "304", description = "No environment changed since the supplied ETag")
     })
-    public ResponseEntity<Page<EnvironmentDto>> getAllEnvironments(
+    public ResponseEntity<?> getAllEnvironments(
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit,
+        WebRequest request) {
+        if (request.checkNotModified(environmentService.getEnvironmentListETag())) {
+            return null;
+        }
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(environmentService.scrollEnvironments(null, cursor, limit));
+        }
         return ResponseEntity.ok(environmentService.getAllEnvironments(pageable));
     }
 
@@ -113,11 +132,18 @@ public class EnvironmentController {
         @ApiResponse(responseCode = "200", description = "Environments retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<EnvironmentDto>> getEnvironmentsByStatus(
+    public ResponseEntity<?> getEnvironmentsByStatus(
         @Parameter(description = "Environment status", required = true)
         @PathVariable Environment.EnvironmentStatus status,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(environmentService.scrollEnvironments(status, cursor, limit));
+        }
         return ResponseEntity.ok(environmentService.getEnvironmentsByStatus(status, pageable));
     }
 } 
\ No newline at end of file
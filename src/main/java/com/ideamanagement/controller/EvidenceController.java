@@ -1,6 +1,9 @@
 package com.ideamanagement.controller;
 
+import com.ideamanagement.dto.CursorPageDto;
+import com.ideamanagement.dto.EvidenceContentDto;
 import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceFilterDto;
 import com.ideamanagement.entity.Evidence;
 import com.ideamanagement.service.EvidenceService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,14 +14,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -164,6 +172,49 @@ public class EvidenceController {
         return ResponseEntity.ok(evidenceService.getEvidence(id));
     }
 
+    @GetMapping("/{id}/content")
+    @Operation(summary = "Download evidence file", description = "Streams the stored file of an evidence item. Supports Range and If-None-Match requests.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File content"),
+            @ApiResponse(responseCode = "206", description = "Partial file content for a Range request"),
+            @ApiResponse(responseCode = "304", description = "File not modified since the supplied ETag"),
+            @ApiResponse(responseCode = "404", description = "Evidence or stored file not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<Resource> getEvidenceContent(
+            @Parameter(description = "ID of the evidence to download", required = true) @PathVariable UUID id) {
+        EvidenceContentDto content = evidenceService.getEvidenceContent(id);
+        // Range (206), Accept-Ranges, Content-Length and If-None-Match (304) are handled by Spring's
+        // resource/region converters, which stream the file in fixed-size chunks instead of loading it onto the heap
+        return ResponseEntity.ok()
+                .eTag(content.getETag())
+                .lastModified(content.getLastModified())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(content.getFileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(content.getContentType()))
+                .body(content.getResource());
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    @Operation(summary = "Get evidence thumbnail", description = "Returns a small JPEG preview of an image evidence item once background processing has generated it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Thumbnail image"),
+            @ApiResponse(responseCode = "304", description = "Thumbnail not modified since the supplied ETag"),
+            @ApiResponse(responseCode = "404", description = "Evidence not found or no thumbnail available",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<Resource> getEvidenceThumbnail(
+            @Parameter(description = "ID of the evidence", required = true) @PathVariable UUID id) {
+        EvidenceContentDto thumbnail = evidenceService.getEvidenceThumbnail(id);
+        return ResponseEntity.ok()
+                .eTag(thumbnail.getETag())
+                .lastModified(thumbnail.getLastModified())
+                .contentType(MediaType.parseMediaType(thumbnail.getContentType()))
+                .body(thumbnail.getResource());
+    }
+
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Get evidence by project", description = "Retrieves a paginated list of evidence items for a specific project.")
     @ApiResponses(value = {
@@ -172,14 +223,37 @@ public class EvidenceController {
             @ApiResponse(responseCode = "404", description = "Project not found",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<Page<EvidenceDto>> getEvidenceByProject(
+    public ResponseEntity<?> getEvidenceByProject(
             @Parameter(description = "ID of the project to retrieve evidence for", required = true) @PathVariable UUID projectId,
-            @Parameter(description = "Pagination parameters") Pageable pageable) {
+            @Parameter(description = "Pagination parameters") Pageable pageable,
+            @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(evidenceService.filterEvidence(projectId, new EvidenceFilterDto(), cursor, limit));
+        }
         return ResponseEntity.ok(evidenceService.getEvidenceByProject(projectId, pageable));
     }
 
+    @GetMapping("/project/{projectId}/filter")
+    @Operation(summary = "Filter project evidence", description = "Retrieves evidence items for a project, newest first, filtered by any combination of category, status, tag, type and employee. "
+            + "Pages are keyset-paginated: pass the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved evidence page",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<CursorPageDto<EvidenceDto>> filterEvidence(
+            @Parameter(description = "ID of the project", required = true) @PathVariable UUID projectId,
+            @ParameterObject EvidenceFilterDto filter,
+            @Parameter(description = "Cursor returned with the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of items to return (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(evidenceService.filterEvidence(projectId, filter, cursor, limit));
+    }
+
+    @Deprecated
     @GetMapping("/project/{projectId}/category/{category}")
-    @Operation(summary = "Get evidence by project and category", description = "Retrieves evidence items for a project filtered by category.")
+    @Operation(summary = "Get evidence by project and category", description = "Retrieves evidence items for a project filtered by category. Returns at most the 1000 newest items; use /project/{projectId}/filter to page through all of them.", deprecated = true)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved evidence list by category",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceDto.class))),
@@ -192,8 +266,9 @@ public class EvidenceController {
         return ResponseEntity.ok(evidenceService.getEvidenceByProjectAndCategory(projectId, category));
     }
 
+    @Deprecated
     @GetMapping("/project/{projectId}/tag/{tag}")
-    @Operation(summary = "Get evidence by project and tag", description = "Retrieves evidence items for a project filtered by tag.")
+    @Operation(summary = "Get evidence by project and tag", description = "Retrieves evidence items for a project filtered by tag. Returns at most the 1000 newest items; use /project/{projectId}/filter to page through all of them.", deprecated = true)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved evidence list by tag",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceDto.class))),
@@ -206,8 +281,9 @@ public class EvidenceController {
         return ResponseEntity.ok(evidenceService.getEvidenceByProjectAndTag(projectId, tag));
     }
 
+    @Deprecated
     @GetMapping("/project/{projectId}/status/{status}")
-    @Operation(summary = "Get evidence by project and status", description = "Retrieves evidence items for a project filtered by status.")
+    @Operation(summary = "Get evidence by project and status", description = "Retrieves evidence items for a project filtered by status. Returns at most the 1000 newest items; use /project/{projectId}/filter to page through all of them.", deprecated = true)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved evidence list by status",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceDto.class))),
@@ -228,8 +304,13 @@ public class EvidenceController {
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<Page<EvidenceDto>> getAllEvidence(
-            @Parameter(description = "Pagination parameters") Pageable pageable) {
+    public ResponseEntity<?> getAllEvidence(
+            @Parameter(description = "Pagination parameters") Pageable pageable,
+            @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(evidenceService.filterEvidence(null, new EvidenceFilterDto(), cursor, limit));
+        }
         return ResponseEntity.ok(evidenceService.getAllEvidence(pageable));
     }
 
@@ -303,9 +384,16 @@ public class EvidenceController {
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<Page<EvidenceDto>> getEvidenceByEmployee(
+    public ResponseEntity<?> getEvidenceByEmployee(
             @PathVariable UUID employeeId,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            EvidenceFilterDto filter = new EvidenceFilterDto();
+            filter.setEmployeeId(employeeId);
+            return ResponseEntity.ok(evidenceService.filterEvidence(null, filter, cursor, limit));
+        }
         return ResponseEntity.ok(evidenceService.getEvidenceByEmployee(employeeId, pageable));
     }
 } 
\ No newline at end of file
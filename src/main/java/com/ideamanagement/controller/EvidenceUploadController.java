@@ -0,0 +1,96 @@
+package com.ideamanagement.controller;
+
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceUploadDto;
+import com.ideamanagement.service.EvidenceUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/evidence/uploads")
+@RequiredArgsConstructor
+@Tag(name = "Evidence Uploads", description = "Chunked, resumable uploads for large evidence files")
+public class EvidenceUploadController {
+    private final EvidenceUploadService evidenceUploadService;
+
+    @PostMapping
+    @Operation(summary = "Start a chunked upload", description = "Creates an upload session with the evidence metadata and the total file size.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session created",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceUploadDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<EvidenceUploadDto> initUpload(
+            @Parameter(description = "Evidence metadata, file name and total size", required = true) @RequestBody EvidenceUploadDto uploadDto) {
+        return ResponseEntity.ok(evidenceUploadService.initUpload(uploadDto));
+    }
+
+    @GetMapping("/{uploadId}")
+    @Operation(summary = "Get upload status", description = "Returns the number of bytes received so far; interrupted uploads resume from this offset.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceUploadDto.class))),
+            @ApiResponse(responseCode = "404", description = "Upload session not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<EvidenceUploadDto> getUpload(
+            @Parameter(description = "ID of the upload session", required = true) @PathVariable UUID uploadId) {
+        return ResponseEntity.ok(evidenceUploadService.getUpload(uploadId));
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload a chunk", description = "Writes the raw request body at the given offset. The offset must not be past the bytes already received.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceUploadDto.class))),
+            @ApiResponse(responseCode = "400", description = "Chunk too large",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "409", description = "Offset does not match the received bytes",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<EvidenceUploadDto> writeChunk(
+            @Parameter(description = "ID of the upload session", required = true) @PathVariable UUID uploadId,
+            @Parameter(description = "Byte offset of this chunk within the file", required = true) @RequestParam long offset,
+            InputStream content) {
+        return ResponseEntity.ok(evidenceUploadService.writeChunk(uploadId, offset, content));
+    }
+
+    @PostMapping("/{uploadId}/commit")
+    @Operation(summary = "Complete a chunked upload", description = "Stores the assembled file and creates the evidence item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Evidence created",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EvidenceDto.class))),
+            @ApiResponse(responseCode = "409", description = "Upload is incomplete",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<EvidenceDto> commitUpload(
+            @Parameter(description = "ID of the upload session", required = true) @PathVariable UUID uploadId) {
+        return ResponseEntity.ok(evidenceUploadService.commitUpload(uploadId));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    @Operation(summary = "Abort a chunked upload", description = "Discards the upload session and any received data.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload aborted"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<Void> abortUpload(
+            @Parameter(description = "ID of the upload session", required = true) @PathVariable UUID uploadId) {
+        evidenceUploadService.abortUpload(uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
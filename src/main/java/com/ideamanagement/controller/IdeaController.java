@@ -1,7 +1,11 @@
 package com.ideamanagement.controller;
 
 import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.IdeaImportResultDto;
+import com.ideamanagement.dto.TrendingIdeaDto;
 import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.IdeaExportService;
+import com.ideamanagement.service.IdeaImportService;
 import com.ideamanagement.service.IdeaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,13 +14,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,6 +38,8 @@ import java.util.UUID;
 public class IdeaController {
 
     private final IdeaService ideaService;
+    private final IdeaImportService ideaImportService;
+    private final IdeaExportService ideaExportService;
 
     @PostMapping
     @Operation(
@@ -81,6 +94,111 @@ public class IdeaController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(
+        summary = "Import ideas from CSV",
+        description = "Creates one idea per row. The header row names the columns: title, description, priority, status, "
+            + "assignedTo, dueDate (YYYY-MM-DD), tags (separated by ; or |) and employeeId. Rows are committed in chunks; "
+            + "rejected rows are listed in the result and do not stop the import."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished",
+            content = @Content(schema = @Schema(implementation = IdeaImportResultDto.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid header row")
+    })
+    public ResponseEntity<IdeaImportResultDto> importIdeasCsv(
+        @Parameter(description = "Owner of rows without an employeeId")
+        @RequestParam(required = false) UUID employeeId,
+        InputStream content) {
+        return ResponseEntity.ok(ideaImportService.importCsv(content, employeeId));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Import ideas from NDJSON",
+        description = "Creates one idea per line; each line is a JSON idea as accepted by POST /api/ideas. Lines are "
+            + "committed in chunks; rejected lines are listed in the result and do not stop the import."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished",
+            content = @Content(schema = @Schema(implementation = IdeaImportResultDto.class)))
+    })
+    public ResponseEntity<IdeaImportResultDto> importIdeasNdjson(
+        @Parameter(description = "Owner of lines without an employeeId")
+        @RequestParam(required = false) UUID employeeId,
+        InputStream content) {
+        return ResponseEntity.ok(ideaImportService.importNdjson(content, employeeId));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export ideas",
+        description = "Streams every matching idea, newest first, as CSV (the columns accepted by the CSV import) or as "
+            + "NDJSON (one idea per line). The filters are those of the cursor mode of the idea lists."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unknown format")
+    })
+    public void exportIdeas(
+        @Parameter(description = "csv or ndjson")
+        @RequestParam(defaultValue = "csv") String format,
+        @RequestParam(required = false) UUID employeeId,
+        @RequestParam(required = false) String assignee,
+        @RequestParam(required = false) Idea.Status status,
+        @RequestParam(required = false) String tag,
+        HttpServletResponse response) throws IOException {
+        IdeaExportService.Format exportFormat = IdeaExportService.Format.fromName(format);
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ideas." + exportFormat.getExtension() + "\"");
+        ideaExportService.exportIdeas(exportFormat, employeeId, assignee, status, tag, response.getOutputStream());
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search ideas",
+        description = "Full-text search over idea titles and descriptions, best match first. Supports \"quoted phrases\", "
+            + "-excluded words and prefix* terms; the last word also matches as a prefix while it is being typed."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching ideas retrieved successfully",
+            content = @Content(schema = @Schema(implementation = Page.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or too long query, or page beyond the first 1000 matches")
+    })
+    public ResponseEntity<Page<IdeaDto>> searchIdeas(
+        @Parameter(description = "Search text", required = true)
+        @RequestParam String q,
+        @Parameter(description = "Only ideas with this status")
+        @RequestParam(required = false) Idea.Status status,
+        @Parameter(description = "Only ideas carrying this tag")
+        @RequestParam(required = false) String tag,
+        @Parameter(description = "Only ideas with this priority")
+        @RequestParam(required = false) Idea.Priority priority,
+        @Parameter(description = "Pagination parameters; results are always ordered by relevance")
+        Pageable pageable) {
+        return ResponseEntity.ok(ideaService.searchIdeas(q, status, tag, priority, pageable));
+    }
+
+    @GetMapping("/trending")
+    @Operation(
+        summary = "Get trending ideas",
+        description = "Ideas ranked by recent likes, each like losing half its weight per half-life (24h by default). "
+            + "Served from memory; a tag ranking can additionally be narrowed by status."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Trending ideas retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Limit out of range")
+    })
+    public ResponseEntity<List<TrendingIdeaDto>> getTrendingIdeas(
+        @Parameter(description = "Only ideas with this status")
+        @RequestParam(required = false) Idea.Status status,
+        @Parameter(description = "Only ideas carrying this tag")
+        @RequestParam(required = false) String tag,
+        @Parameter(description = "Number of ideas to return, at most trending.top-k")
+        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ideaService.getTrendingIdeas(status, tag, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "Get idea by ID",
@@ -89,27 +207,42 @@ public class IdeaController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Idea retrieved successfully",
             content = @Content(schema = @Schema(implementation = IdeaDto.class))),
+        @ApiResponse(responseCode = "304", description = "Idea not modified since the supplied ETag"),
         @ApiResponse(responseCode = "404", description = "Idea not found")
     })
     public ResponseEntity<IdeaDto> getIdeaById(
         @Parameter(description = "ID of the idea to retrieve", required = true)
         @PathVariable UUID id,
-        @RequestParam UUID employeeId) {
+        @RequestParam UUID employeeId,
+        WebRequest request) {
+        // Answered from a primary-key probe when the client's copy is current; the ETag is read before the idea,
+        // so a change in between only costs the client one extra full response
+        String eTag = ideaService.getIdeaETag(id, employeeId);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(ideaService.getIdeaById(id, employeeId));
     }
 
     @GetMapping
     @Operation(
         summary = "Get all ideas",
-        description = "Retrieves a list of all ideas with pagination"
+        description = "Retrieves a list of all ideas with pagination. Passing limit (and then the returned nextCursor) switches to cursor mode: newest first, without a total count."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Ideas retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<IdeaDto>> getAllIdeas(
+    public ResponseEntity<?> getAllIdeas(
         @RequestParam(required = false) UUID employeeId,
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(ideaService.scrollIdeas(employeeId, null, null, null, cursor, limit));
+        }
         if (employeeId != null) {
             return ResponseEntity.ok(ideaService.getAllIdeas(employeeId, pageable));
         } else {
@@ -126,11 +259,18 @@ public class IdeaController {
         @ApiResponse(responseCode = "200", description = "Ideas retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<IdeaDto>> getIdeasByAssignee(
+    public ResponseEntity<?> getIdeasByAssignee(
         @Parameter(description = "Name of the assignee", required = true)
         @PathVariable String assignee,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(ideaService.scrollIdeas(null, assignee, null, null, cursor, limit));
+        }
         return ResponseEntity.ok(ideaService.getIdeasByAssignee(assignee, pageable));
     }
 
@@ -143,11 +283,18 @@ public class IdeaController {
         @ApiResponse(responseCode = "200", description = "Ideas retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<IdeaDto>> getIdeasByStatus(
+    public ResponseEntity<?> getIdeasByStatus(
         @Parameter(description = "Status of the ideas (PENDING, IN_PROGRESS, COMPLETED)", required = true)
         @PathVariable Idea.Status status,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(ideaService.scrollIdeas(null, null, status, null, cursor, limit));
+        }
         return ResponseEntity.ok(ideaService.getIdeasByStatus(status, pageable));
     }
 
@@ -160,11 +307,18 @@ public class IdeaController {
         @ApiResponse(responseCode = "200", description = "Ideas retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<IdeaDto>> getIdeasByTag(
+    public ResponseEntity<?> getIdeasByTag(
         @Parameter(description = "Tag to search for", required = true)
         @PathVariable String tag,
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(ideaService.scrollIdeas(null, null, null, tag, cursor, limit));
+        }
         return ResponseEntity.ok(ideaService.getIdeasByTag(tag, pageable));
     }
 
@@ -1,6 +1,8 @@
 package com.ideamanagement.controller;
 
 import com.ideamanagement.dto.LikeDto;
+import com.ideamanagement.dto.LikeStatusDto;
+import com.ideamanagement.dto.LikeStatusRequestDto;
 import com.ideamanagement.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -8,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -32,18 +35,34 @@ public class LikeController {
         return ResponseEntity.ok(likeService.hasLiked(userId, ideaId));
     }
 
+    // Liked flags and counts for a whole feed page in one request
+    @PostMapping("/status")
+    public ResponseEntity<List<LikeStatusDto>> getLikeStatus(@RequestBody LikeStatusRequestDto request) {
+        return ResponseEntity.ok(likeService.getLikeStatus(request.getUserId(), request.getIdeaIds()));
+    }
+
     @GetMapping("/ideas/{ideaId}/count")
     public ResponseEntity<Long> getLikeCount(@PathVariable UUID ideaId) {
         return ResponseEntity.ok(likeService.getLikeCount(ideaId));
     }
 
     @GetMapping("/ideas/{ideaId}")
-    public ResponseEntity<Page<LikeDto>> getLikesByIdea(@PathVariable UUID ideaId, Pageable pageable) {
+    public ResponseEntity<?> getLikesByIdea(@PathVariable UUID ideaId, Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(likeService.scrollLikes(ideaId, null, cursor, limit));
+        }
         return ResponseEntity.ok(likeService.getLikesByIdea(ideaId, pageable));
     }
 
     @GetMapping("/users/{userId}")
-    public ResponseEntity<Page<LikeDto>> getLikesByUser(@PathVariable UUID userId, Pageable pageable) {
+    public ResponseEntity<?> getLikesByUser(@PathVariable UUID userId, Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(likeService.scrollLikes(null, userId, cursor, limit));
+        }
         return ResponseEntity.ok(likeService.getLikesByUser(userId, pageable));
     }
 } 
\ No newline at end of file
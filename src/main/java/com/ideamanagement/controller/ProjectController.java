@@ -36,8 +36,13 @@ public class ProjectController {
 
     @GetMapping
     @Operation(summary = "Get all projects", description = "Retrieves a paginated list of all projects")
-    public ResponseEntity<Page<ProjectDto>> getAllProjects(
-            @Parameter(description = "Pagination parameters") Pageable pageable) {
+    public ResponseEntity<?> getAllProjects(
+            @Parameter(description = "Pagination parameters") Pageable pageable,
+            @Parameter(description = "Cursor returned with the previous page (cursor mode)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size in cursor mode (1-100, default 20)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(projectService.scrollProjects(cursor, limit));
+        }
         return ResponseEntity.ok(projectService.getAllProjects(pageable));
     }
 
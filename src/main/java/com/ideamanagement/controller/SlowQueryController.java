@@ -0,0 +1,66 @@
+package com.ideamanagement.controller;
+
+import com.ideamanagement.dto.QueryStatsDto;
+import com.ideamanagement.dto.SlowQueryDto;
+import com.ideamanagement.service.SlowQueryLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+@Tag(name = "Slow Query", description = "Slow query log APIs")
+public class SlowQueryController {
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryController(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Get recent slow queries",
+        description = "Retrieves the most recent statements over the slow query threshold, plus sampled ones, newest first"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved slow queries")
+    })
+    public ResponseEntity<List<SlowQueryDto>> getRecentQueries(
+        @Parameter(description = "Maximum number of queries to return")
+        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(slowQueryLog.getRecentQueries(limit));
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get query statistics",
+        description = "Retrieves execution counts and times per statement, the most time-consuming first"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved query statistics")
+    })
+    public ResponseEntity<List<QueryStatsDto>> getQueryStats(
+        @Parameter(description = "Maximum number of statements to return")
+        @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(slowQueryLog.getQueryStats(limit));
+    }
+
+    @DeleteMapping
+    @Operation(
+        summary = "Reset the slow query log",
+        description = "Clears recorded queries, statistics and captured plans"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Slow query log reset")
+    })
+    public ResponseEntity<Void> reset() {
+        slowQueryLog.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
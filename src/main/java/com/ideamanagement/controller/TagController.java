@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -67,11 +68,17 @@ public class TagController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Tag found",
             content = @Content(schema = @Schema(implementation = TagDto.class))),
+        @ApiResponse(responseCode = "304", description = "Tag not modified since the supplied ETag"),
         @ApiResponse(responseCode = "404", description = "Tag not found")
     })
     public ResponseEntity<TagDto> getTag(
         @Parameter(description = "ID of the tag to retrieve", required = true)
-        @PathVariable String id) {
+        @PathVariable String id,
+        WebRequest request) {
+        String eTag = tagService.getTagETag(id);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(tagService.getTagById(id));
     }
 
@@ -80,9 +87,15 @@ public class TagController {
         summary = "Get all tags",
         description = "Retrieves a list of all tags in the system"
     )
-    @ApiResponse(responseCode = "200", description = "List of tags retrieved successfully",
-        content = @Content(schema = @Schema(implementation = TagDto.class)))
-    public ResponseEntity<List<TagDto>> getAllTags() {
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "List of tags retrieved successfully",
+            content = @Content(schema = @Schema(implementation = TagDto.class))),
+        @ApiResponse(responseCode = "304", description = "No tag changed since the supplied ETag")
+    })
+    public ResponseEntity<List<TagDto>> getAllTags(WebRequest request) {
+        if (request.checkNotModified(tagService.getTagListETag())) {
+            return null;
+        }
         return ResponseEntity.ok(tagService.getAllTags());
     }
 
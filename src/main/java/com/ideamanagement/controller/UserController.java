@@ -115,9 +115,16 @@ public class UserController {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
             content = @Content(schema = @Schema(implementation = Page.class)))
     })
-    public ResponseEntity<Page<UserDto>> getAllUsers(
+    public ResponseEntity<?> getAllUsers(
         @Parameter(description = "Pagination and sorting parameters")
-        Pageable pageable) {
+        Pageable pageable,
+        @Parameter(description = "Cursor returned with the previous page (cursor mode)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size in cursor mode (1-100, default 20)")
+        @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return ResponseEntity.ok(userService.scrollUsers(cursor, limit));
+        }
         return ResponseEntity.ok(userService.getAllUsers(pageable));
     }
 
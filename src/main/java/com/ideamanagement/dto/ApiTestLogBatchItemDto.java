@@ -0,0 +1,20 @@
+package com.ideamanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiTestLogBatchItemDto {
+    // JSON array: position in the array, from 0. NDJSON: line number
+    private long index;
+    // Set when the log was stored, otherwise error says why not
+    private UUID id;
+    private String error;
+}
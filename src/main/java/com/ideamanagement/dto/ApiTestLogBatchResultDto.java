@@ -0,0 +1,14 @@
+package com.ideamanagement.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ApiTestLogBatchResultDto {
+    private long created;
+    private long failed;
+    // One entry per submitted log, in the order they were sent
+    private List<ApiTestLogBatchItemDto> results = new ArrayList<>();
+}
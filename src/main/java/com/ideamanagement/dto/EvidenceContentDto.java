@@ -0,0 +1,19 @@
+package com.ideamanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvidenceContentDto {
+    private Resource resource;
+    private String fileName;
+    private String contentType;
+    private String eTag;
+    private Instant lastModified;
+}
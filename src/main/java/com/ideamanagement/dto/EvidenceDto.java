@@ -44,6 +44,24 @@ public class EvidenceDto {
     @Schema(description = "Size of the file if type is FILE", example = "2.4 MB")
     private Long fileSize;
 
+    @Schema(description = "SHA-256 of the stored file content", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String contentHash;
+
+    @Schema(description = "Background processing state of the stored file (PENDING, DONE)", example = "DONE")
+    private Evidence.ProcessingStatus processingStatus;
+
+    @Schema(description = "Result of verifying the stored file against its content hash", example = "DONE")
+    private Evidence.ProcessingStatus checksumStatus;
+
+    @Schema(description = "Result of thumbnail generation (SKIPPED for non-image files)", example = "DONE")
+    private Evidence.ProcessingStatus thumbnailStatus;
+
+    @Schema(description = "Result of text extraction (SKIPPED for binary files)", example = "SKIPPED")
+    private Evidence.ProcessingStatus textStatus;
+
+    @Schema(description = "Link to a small thumbnail once one has been generated", example = "/api/evidence/123e4567-e89b-12d3-a456-426614174000/thumbnail")
+    private String thumbnailUrl;
+
     @Schema(description = "URL if type is LINK", example = "https://example.com")
     private String url;
 
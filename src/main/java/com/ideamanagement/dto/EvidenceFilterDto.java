@@ -0,0 +1,26 @@
+package com.ideamanagement.dto;
+
+import com.ideamanagement.entity.Evidence;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Schema(description = "Optional filters for project evidence; any combination may be supplied")
+public class EvidenceFilterDto {
+    @Schema(description = "Only evidence in this category", example = "development")
+    private String category;
+
+    @Schema(description = "Only evidence with this status", example = "PENDING")
+    private Evidence.EvidenceStatus status;
+
+    @Schema(description = "Only evidence carrying this tag", example = "security")
+    private String tag;
+
+    @Schema(description = "Only evidence of this type", example = "FILE")
+    private Evidence.EvidenceType type;
+
+    @Schema(description = "Only evidence associated with this employee")
+    private UUID employeeId;
+}
@@ -0,0 +1,39 @@
+package com.ideamanagement.dto;
+
+import com.ideamanagement.entity.Evidence;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Row projection for evidence list queries: the evidence columns plus the foreign-key IDs,
+// selected in one statement without initialising the related entities
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvidenceSummaryDto {
+    private UUID id;
+    private String title;
+    private String description;
+    private Evidence.EvidenceType type;
+    private String category;
+    private Evidence.EvidenceStatus status;
+    private String fileName;
+    private String filePath;
+    private String contentType;
+    private Long fileSize;
+    private String contentHash;
+    private String url;
+    private Evidence.ProcessingStatus processingStatus;
+    private Evidence.ProcessingStatus checksumStatus;
+    private Evidence.ProcessingStatus thumbnailStatus;
+    private Evidence.ProcessingStatus textStatus;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime updatedAt;
+    private UUID ideaId;
+    private UUID projectId;
+    private UUID uploadedBy;
+    private UUID employeeId;
+}
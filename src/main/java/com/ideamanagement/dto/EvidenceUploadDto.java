@@ -0,0 +1,59 @@
+package com.ideamanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Chunked evidence upload session")
+public class EvidenceUploadDto {
+    @Schema(description = "Unique identifier of the upload session", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Title of the evidence", example = "Sprint demo recording")
+    private String title;
+
+    @Schema(description = "Detailed description of the evidence")
+    private String description;
+
+    @Schema(description = "Category of the evidence", example = "development")
+    private String category;
+
+    @Schema(description = "Project ID the evidence will belong to")
+    private UUID projectId;
+
+    @Schema(description = "User ID of the uploader")
+    private UUID uploadedBy;
+
+    @Schema(description = "Idea ID the evidence will belong to")
+    private UUID ideaId;
+
+    @Schema(description = "Employee ID associated with the evidence")
+    private UUID employeeId;
+
+    @Schema(description = "Set of tags associated with the evidence")
+    private Set<String> tags;
+
+    @Schema(description = "Original file name", example = "demo.mp4")
+    private String fileName;
+
+    @Schema(description = "Content type of the file", example = "video/mp4")
+    private String contentType;
+
+    @Schema(description = "Total size of the file in bytes", example = "524288000")
+    private Long totalSize;
+
+    @Schema(description = "Bytes received so far; the next chunk must start at this offset", example = "8388608")
+    private Long receivedBytes;
+
+    @Schema(description = "Creation timestamp")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Last update timestamp")
+    private LocalDateTime updatedAt;
+}
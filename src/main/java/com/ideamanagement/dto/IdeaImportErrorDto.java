@@ -0,0 +1,14 @@
+package com.ideamanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdeaImportErrorDto {
+    // CSV: spreadsheet row, counting the header as row 1. NDJSON: line number
+    private long row;
+    private String message;
+}
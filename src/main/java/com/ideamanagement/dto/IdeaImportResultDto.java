@@ -0,0 +1,15 @@
+package com.ideamanagement.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class IdeaImportResultDto {
+    private long imported;
+    private long failed;
+    // Only the first errors are listed; failed still counts every rejected row
+    private List<IdeaImportErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
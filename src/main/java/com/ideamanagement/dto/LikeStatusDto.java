@@ -0,0 +1,16 @@
+package com.ideamanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusDto {
+    private UUID ideaId;
+    private boolean liked;
+    private long count;
+}
@@ -0,0 +1,12 @@
+package com.ideamanagement.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class LikeStatusRequestDto {
+    private UUID userId;
+    private List<UUID> ideaIds;
+}
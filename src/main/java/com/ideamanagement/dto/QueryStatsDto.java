@@ -0,0 +1,19 @@
+package com.ideamanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryStatsDto {
+    private String sql;
+    private long count;
+    private long slowCount;
+    private long errorCount;
+    private double totalMs;
+    private double meanMs;
+    private double maxMs;
+    private String explainPlan;
+}
@@ -0,0 +1,25 @@
+package com.ideamanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryDto {
+    // Normalised: literals and IN-list lengths folded away
+    private String sql;
+    private double durationMs;
+    private LocalDateTime executedAt;
+    // False for a statement under the threshold that was kept as a sample
+    private boolean slow;
+    private boolean success;
+    private String thread;
+    // Application frames that issued the statement, innermost first
+    private List<String> caller;
+    private String explainPlan;
+}
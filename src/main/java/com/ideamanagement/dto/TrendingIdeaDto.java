@@ -0,0 +1,23 @@
+package com.ideamanagement.dto;
+
+import com.ideamanagement.entity.Idea.Priority;
+import com.ideamanagement.entity.Idea.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingIdeaDto {
+    private UUID id;
+    private String title;
+    private Priority priority;
+    private Status status;
+    private Set<String> tags;
+    // Likes weighted by age: a like counts 1 now and half as much after each half-life
+    private double score;
+}
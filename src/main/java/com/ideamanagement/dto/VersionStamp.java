@@ -0,0 +1,38 @@
+package com.ideamanagement.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Change summary of the rows behind a list response, selected by one aggregate query. An insert changes the
+// count and the latest update time, a delete the count, and an update the sum of the optimistic-lock revisions
+@Getter
+public class VersionStamp {
+    private final long count;
+    private final LocalDateTime lastUpdated;
+    private final long revisions;
+
+    public VersionStamp(Long count, LocalDateTime lastUpdated, Long revisions) {
+        this.count = count != null ? count : 0;
+        this.lastUpdated = lastUpdated;
+        this.revisions = revisions != null ? revisions : 0;
+    }
+
+    public String toETag() {
+        long updated = lastUpdated != null ? lastUpdated.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        return eTag(count, updated, revisions);
+    }
+
+    // Strong entity tag from the given numbers; single rows use their revision (and any column written past it)
+    public static String eTag(long... parts) {
+        StringBuilder tag = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                tag.append('-');
+            }
+            tag.append(Long.toHexString(parts[i]));
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -15,10 +15,13 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "api_endpoints")
+@Table(name = "api_endpoints", indexes = {
+    @Index(name = "idx_api_endpoints_created", columnList = "created_at, id"),
+    @Index(name = "idx_api_endpoints_employee_created", columnList = "employee_id, created_at, id")
+})
 public class ApiEndpoint {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @JdbcTypeCode(SqlTypes.BINARY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
@@ -14,10 +14,14 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "api_test_logs")
+@Table(name = "api_test_logs", indexes = {
+    // Cursor mode pages through the logs by execution time
+    @Index(name = "idx_api_test_logs_executed", columnList = "executed_at, id"),
+    @Index(name = "idx_api_test_logs_endpoint_executed", columnList = "endpoint_id, executed_at, id")
+})
 public class ApiTestLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @JdbcTypeCode(SqlTypes.BINARY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
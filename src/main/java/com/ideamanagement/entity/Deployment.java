@@ -2,18 +2,24 @@ package com.ideamanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "deployments")
+@Table(name = "deployments", indexes = {
+    @Index(name = "idx_deployments_created", columnList = "created_at, id"),
+    @Index(name = "idx_deployments_employee_created", columnList = "employee_id, created_at, id"),
+    // Covers the change probe behind the ETag of an employee's deployment list
+    @Index(name = "idx_deployments_employee_updated", columnList = "employee_id, updated_at, revision")
+})
 public class Deployment {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @UuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -52,6 +58,11 @@ public class Deployment {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock counter; named so it cannot be mistaken for the deployed version
+    @Version
+    @Column(nullable = false)
+    private Long revision;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", foreignKey = @ForeignKey(name = "fk_deployment_employee", foreignKeyDefinition = "FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE"))
     private Employee employee;
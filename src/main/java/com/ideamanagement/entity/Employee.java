@@ -2,7 +2,7 @@ package com.ideamanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,11 +13,12 @@ import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+    @Index(name = "idx_employees_created", columnList = "created_at, id")
+})
 public class Employee {
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -65,6 +66,7 @@ public class Employee {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "employee_skills", joinColumns = @JoinColumn(name = "employee_id"))
     @Column(name = "skill", length = 50)
+    @BatchSize(size = 50)
     private Set<String> skills = new HashSet<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
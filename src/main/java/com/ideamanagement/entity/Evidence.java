@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -16,12 +19,22 @@ import java.util.UUID;
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "evidence")
+@Table(name = "evidence", indexes = {
+    @Index(name = "idx_evidence_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_evidence_processing_status", columnList = "processing_status"),
+    // Keyset pagination of project evidence, optionally filtered, newest first
+    @Index(name = "idx_evidence_project_uploaded", columnList = "project_id, uploaded_at, id"),
+    @Index(name = "idx_evidence_project_status_uploaded", columnList = "project_id, status, uploaded_at, id"),
+    @Index(name = "idx_evidence_project_category_uploaded", columnList = "project_id, category, uploaded_at, id"),
+    @Index(name = "idx_evidence_project_type_uploaded", columnList = "project_id, type, uploaded_at, id"),
+    @Index(name = "idx_evidence_employee_uploaded", columnList = "employee_id, uploaded_at, id")
+})
 public class Evidence {
+    // Also the type of evidence_tags.evidence_id and evidence_texts.evidence_id
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "id", updatable = false, nullable = false)
+    @UuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "title", nullable = false)
@@ -54,9 +67,40 @@ public class Evidence {
     @Column(name = "file_size")
     private Long fileSize;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "url")
     private String url;
 
+    // Background post-processing of the stored file; null for evidence without a file
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", length = 20)
+    private ProcessingStatus processingStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checksum_status", length = 20)
+    private ProcessingStatus checksumStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", length = 20)
+    private ProcessingStatus thumbnailStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "text_status", length = 20)
+    private ProcessingStatus textStatus;
+
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // Runs that ended in an error; once it reaches evidence.processing.max-attempts the evidence is marked FAILED
+    @ColumnDefault("0")
+    @Column(name = "processing_attempts", nullable = false)
+    private int processingAttempts;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "idea_id", referencedColumnName = "id")
@@ -75,8 +119,11 @@ public class Evidence {
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "evidence_tags", joinColumns = @JoinColumn(name = "evidence_id"))
+    // Lists load tags for a whole page at once (EvidenceRepository.findTagsByEvidenceIds)
+    @BatchSize(size = 50)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "evidence_tags", joinColumns = @JoinColumn(name = "evidence_id"),
+            indexes = @Index(name = "idx_evidence_tags_tag", columnList = "tag, evidence_id"))
     @Column(name = "tag")
     private Set<String> tags = new HashSet<>();
 
@@ -112,4 +159,8 @@ public class Evidence {
     public enum EvidenceStatus {
         PENDING, VALIDATED, REJECTED, ARCHIVED
     }
+
+    public enum ProcessingStatus {
+        PENDING, DONE, SKIPPED, FAILED
+    }
 } 
\ No newline at end of file
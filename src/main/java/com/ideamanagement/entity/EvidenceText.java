@@ -0,0 +1,27 @@
+package com.ideamanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+// Plain text extracted from an evidence file for search. Kept out of the evidence table
+// so list queries never drag large text columns along
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "evidence_texts")
+public class EvidenceText {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "evidence_id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
+    private UUID evidenceId;
+
+    @Column(name = "content", columnDefinition = "LONGTEXT")
+    private String content;
+}
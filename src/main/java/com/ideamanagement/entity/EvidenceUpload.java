@@ -0,0 +1,80 @@
+package com.ideamanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Entity
+@Table(name = "evidence_uploads")
+public class EvidenceUpload {
+    @Id
+    @UuidV7
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Lob
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "uploaded_by", nullable = false)
+    private UUID uploadedBy;
+
+    @Column(name = "idea_id")
+    private UUID ideaId;
+
+    @Column(name = "employee_id")
+    private UUID employeeId;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "evidence_upload_tags", joinColumns = @JoinColumn(name = "upload_id"))
+    @Column(name = "tag")
+    private Set<String> tags = new HashSet<>();
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    // Bytes written and flushed to the part file; chunks resume from here
+    @Column(name = "received_bytes", nullable = false)
+    private long receivedBytes = 0;
+
+    // Set once the part file has been moved into the blob store, so a failed commit can be retried
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
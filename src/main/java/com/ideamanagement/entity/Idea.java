@@ -5,7 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -19,7 +19,13 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "ideas")
+@Table(name = "ideas", indexes = {
+    // Cursor-mode listing, newest first with the ID as tie-breaker
+    @Index(name = "idx_ideas_created", columnList = "created_at, id"),
+    @Index(name = "idx_ideas_employee_created", columnList = "employee_id, created_at, id"),
+    @Index(name = "idx_ideas_status_created", columnList = "status, created_at, id"),
+    @Index(name = "idx_ideas_assigned_created", columnList = "assigned_to, created_at, id")
+})
 public class Idea {
     // @Id
     // @GeneratedValue(strategy = GenerationType.UUID)
@@ -28,8 +34,7 @@ public class Idea {
     // private UUID id;
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -50,7 +55,8 @@ public class Idea {
     @Column(name = "assigned_to", length = 100)
     private String assignedTo;
 
-    @Column(nullable = false)
+    // Maintained only by the upvote counter's own updates, so saving an idea never overwrites newer votes
+    @Column(nullable = false, updatable = false)
     private int upvotes = 0;
 
     @Column(nullable = false)
@@ -65,10 +71,17 @@ public class Idea {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Incremented on every update, tag changes included, but not by the upvote counter
+    @Version
+    @Column(nullable = false)
+    private Long revision;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "idea_tags", 
-        joinColumns = @JoinColumn(name = "idea_id"))
+        joinColumns = @JoinColumn(name = "idea_id"),
+        indexes = @Index(name = "idx_idea_tags_tag", columnList = "tag, idea_id"))
     @Column(name = "tag", length = 50)
+    @BatchSize(size = 50)
     private Set<String> tags = new HashSet<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
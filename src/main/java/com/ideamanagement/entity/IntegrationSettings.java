@@ -2,7 +2,6 @@ package com.ideamanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
@@ -13,8 +12,7 @@ import java.util.UUID;
 @Table(name = "integration_settings")
 public class IntegrationSettings {
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -2,7 +2,8 @@ package com.ideamanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,12 +12,16 @@ import java.util.UUID;
 @Entity
 @Table(name = "likes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "idea_id"})
+}, indexes = {
+    @Index(name = "idx_likes_idea_created", columnList = "idea_id, created_at, id"),
+    @Index(name = "idx_likes_user_created", columnList = "user_id, created_at, id")
 })
 public class Like {
+    // Binary and time-ordered: likes are one of the largest, most insert-heavy tables
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "id", updatable = false, nullable = false)
+    @UuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
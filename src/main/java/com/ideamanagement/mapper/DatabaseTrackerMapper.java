@@ -0,0 +1,22 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.dto.DatabaseTrackerDto;
+import com.ideamanagement.entity.DatabaseTracker;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+@Mapper(config = MappingConfig.class)
+public interface DatabaseTrackerMapper extends EmployeeReferences {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    DatabaseTrackerDto toDto(DatabaseTracker databaseTracker);
+
+    // A tracker keeps its employee when the DTO names none; lastModified is stamped by the service
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "employee", source = "employeeId",
+            nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void copyToEntity(DatabaseTrackerDto dto, @MappingTarget DatabaseTracker databaseTracker);
+}
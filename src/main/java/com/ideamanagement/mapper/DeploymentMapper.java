@@ -0,0 +1,25 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.dto.DeploymentDto;
+import com.ideamanagement.entity.Deployment;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+@Mapper(config = MappingConfig.class)
+public interface DeploymentMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    DeploymentDto toDto(Deployment deployment);
+
+    // Null DTO fields leave the entity as it is; the service resolves the employee itself
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "employee", ignore = true)
+    void copyToEntity(DeploymentDto deploymentDto, @MappingTarget Deployment deployment);
+}
@@ -0,0 +1,22 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.entity.Employee;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+@Mapper(config = MappingConfig.class)
+public interface EmployeeMapper {
+
+    EmployeeDto toDto(Employee employee);
+
+    // Null DTO fields leave the entity as it is; skills replace the contents of the managed collection
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void copyToEntity(EmployeeDto employeeDto, @MappingTarget Employee employee);
+}
@@ -0,0 +1,19 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.entity.Employee;
+
+import java.util.UUID;
+
+// Turns the employeeId of a DTO into an unloaded Employee that only carries the key, which is all Hibernate needs
+// to write the foreign key
+public interface EmployeeReferences {
+
+    default Employee employeeReference(UUID employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        Employee employee = new Employee();
+        employee.setId(employeeId);
+        return employee;
+    }
+}
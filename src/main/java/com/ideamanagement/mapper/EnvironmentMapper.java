@@ -0,0 +1,25 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.dto.EnvironmentDto;
+import com.ideamanagement.entity.Environment;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+@Mapper(config = MappingConfig.class)
+public interface EnvironmentMapper extends EmployeeReferences {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    EnvironmentDto toDto(Environment environment);
+
+    // Null DTO fields leave the entity as it is
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "employee", source = "employeeId")
+    void copyToEntity(EnvironmentDto environmentDto, @MappingTarget Environment environment);
+}
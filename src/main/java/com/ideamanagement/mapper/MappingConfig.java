@@ -0,0 +1,12 @@
+package com.ideamanagement.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+// Shared settings of the generated entity/DTO mappers. A property added to an entity or DTO without a mapping or
+// an explicit ignore fails the build instead of silently staying empty
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MappingConfig {
+}
@@ -0,0 +1,21 @@
+package com.ideamanagement.mapper;
+
+import com.ideamanagement.dto.TagDto;
+import com.ideamanagement.entity.Tag;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MappingConfig.class)
+public interface TagMapper {
+
+    // Tag responses have never carried the owning employee
+    @Mapping(target = "employeeId", ignore = true)
+    TagDto toDto(Tag tag);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "employee", ignore = true)
+    void copyToEntity(TagDto tagDto, @MappingTarget Tag tag);
+}
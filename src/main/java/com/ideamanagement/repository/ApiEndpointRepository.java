@@ -4,16 +4,24 @@ import com.ideamanagement.entity.ApiEndpoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface ApiEndpointRepository extends JpaRepository<ApiEndpoint, UUID> {
+public interface ApiEndpointRepository extends JpaRepository<ApiEndpoint, UUID>, JpaSpecificationExecutor<ApiEndpoint> {
     Page<ApiEndpoint> findByStatus(ApiEndpoint.Status status, Pageable pageable);
     Page<ApiEndpoint> findByMethod(ApiEndpoint.HttpMethod method, Pageable pageable);
     Page<ApiEndpoint> findByVersion(String version, Pageable pageable);
     Page<ApiEndpoint> findByEmployeeId(UUID employeeId, Pageable pageable);
     ApiEndpoint findByIdAndEmployeeId(UUID id, UUID employeeId);
     void deleteByIdAndEmployeeId(UUID id, UUID employeeId);
+
+    @Query("SELECT e.id FROM ApiEndpoint e WHERE e.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 } 
\ No newline at end of file
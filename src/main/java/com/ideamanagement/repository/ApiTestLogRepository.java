@@ -4,11 +4,12 @@ import com.ideamanagement.entity.ApiTestLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 @Repository
-public interface ApiTestLogRepository extends JpaRepository<ApiTestLog, UUID> {
+public interface ApiTestLogRepository extends JpaRepository<ApiTestLog, UUID>, JpaSpecificationExecutor<ApiTestLog> {
     Page<ApiTestLog> findByEndpointId(UUID endpointId, Pageable pageable);
 } 
\ No newline at end of file
@@ -1,15 +1,20 @@
 package com.ideamanagement.repository;
 
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Deployment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface DeploymentRepository extends JpaRepository<Deployment, UUID> {
+public interface DeploymentRepository extends JpaRepository<Deployment, UUID>, JpaSpecificationExecutor<Deployment> {
     Page<Deployment> findByEnvironment(String environment, Pageable pageable);
     Page<Deployment> findByStatus(Deployment.DeploymentStatus status, Pageable pageable);
     Page<Deployment> findByHealth(Deployment.HealthStatus health, Pageable pageable);
@@ -17,4 +22,11 @@ public interface DeploymentRepository extends JpaRepository<Deployment, UUID> {
     Page<Deployment> findByEmployeeId(UUID employeeId, Pageable pageable);
     Deployment findByIdAndEmployeeId(UUID id, UUID employeeId);
     void deleteByIdAndEmployeeId(UUID id, UUID employeeId);
+
+    @Query("SELECT d.revision FROM Deployment d WHERE d.id = :id AND d.employee.id = :employeeId")
+    Optional<Long> findRevision(@Param("id") UUID id, @Param("employeeId") UUID employeeId);
+
+    @Query("SELECT new com.ideamanagement.dto.VersionStamp(COUNT(d), MAX(d.updatedAt), SUM(d.revision)) " +
+           "FROM Deployment d WHERE d.employee.id = :employeeId")
+    VersionStamp findVersionStampByEmployeeId(@Param("employeeId") UUID employeeId);
 } 
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.ideamanagement.repository;
 
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Environment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EnvironmentRepository extends JpaRepository<Environment, UUID> {
+public interface EnvironmentRepository extends JpaRepository<Environment, UUID>, JpaSpecificationExecutor<Environment> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Environment> findByName(String name);
     Page<Environment> findByStatus(Environment.EnvironmentStatus status, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.ideamanagement.dto.VersionStamp(COUNT(e), MAX(e.updatedAt), SUM(e.revision)) FROM Environment e")
+    VersionStamp findVersionStamp();
 } 
\ No newline at end of file
@@ -1,20 +1,84 @@
 package com.ideamanagement.repository;
 
+import com.ideamanagement.dto.EvidenceSummaryDto;
 import com.ideamanagement.entity.Evidence;
 import com.ideamanagement.entity.Idea;
 import com.ideamanagement.entity.Project;
 import com.ideamanagement.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface EvidenceRepository extends JpaRepository<Evidence, UUID> {
+    // Referencing the ID of a many-to-one reads the foreign-key column, so these need no joins
+    String SUMMARY_SELECT = "SELECT new com.ideamanagement.dto.EvidenceSummaryDto(" +
+            "e.id, e.title, e.description, e.type, e.category, e.status, e.fileName, e.filePath, " +
+            "e.contentType, e.fileSize, e.contentHash, e.url, e.processingStatus, e.checksumStatus, " +
+            "e.thumbnailStatus, e.textStatus, e.uploadedAt, e.updatedAt, " +
+            "e.idea.id, e.project.id, e.uploadedBy.id, e.employee.id) FROM Evidence e";
+
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(e) FROM Evidence e")
+    Page<EvidenceSummaryDto> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE e.project.id = :projectId",
+           countQuery = "SELECT COUNT(e) FROM Evidence e WHERE e.project.id = :projectId")
+    Page<EvidenceSummaryDto> findSummariesByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE e.employee.id = :employeeId",
+           countQuery = "SELECT COUNT(e) FROM Evidence e WHERE e.employee.id = :employeeId")
+    Page<EvidenceSummaryDto> findSummariesByEmployeeId(@Param("employeeId") UUID employeeId, Pageable pageable);
+
+    // Optional filters are written as "(:p IS NULL OR ...)". The driver inlines parameter values, so MySQL folds
+    // the unused ones away and can pick the matching (project_id, <filter>, uploaded_at, id) index.
+    // The keyset condition is phrased with a leading "uploadedAt <=" so it is usable as an index range
+    String FILTER_CONDITIONS = " (:projectId IS NULL OR e.project.id = :projectId)" +
+            " AND (:category IS NULL OR e.category = :category)" +
+            " AND (:status IS NULL OR e.status = :status)" +
+            " AND (:type IS NULL OR e.type = :type)" +
+            " AND (:employeeId IS NULL OR e.employee.id = :employeeId)" +
+            " AND (:cursorAt IS NULL OR (e.uploadedAt <= :cursorAt" +
+            " AND (e.uploadedAt < :cursorAt OR e.id < :cursorId)))" +
+            " ORDER BY e.uploadedAt DESC, e.id DESC";
+
+    @Query(SUMMARY_SELECT + " WHERE" + FILTER_CONDITIONS)
+    List<EvidenceSummaryDto> filterSummaries(@Param("projectId") UUID projectId,
+                                             @Param("category") String category,
+                                             @Param("status") Evidence.EvidenceStatus status,
+                                             @Param("type") Evidence.EvidenceType type,
+                                             @Param("employeeId") UUID employeeId,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") UUID cursorId,
+                                             Limit limit);
+
+    // Joining the tag table (rather than MEMBER OF) lets the (tag, evidence_id) index drive the lookup
+    @Query(SUMMARY_SELECT + " JOIN e.tags t WHERE t = :tag AND" + FILTER_CONDITIONS)
+    List<EvidenceSummaryDto> filterSummariesByTag(@Param("projectId") UUID projectId,
+                                                  @Param("tag") String tag,
+                                                  @Param("category") String category,
+                                                  @Param("status") Evidence.EvidenceStatus status,
+                                                  @Param("type") Evidence.EvidenceType type,
+                                                  @Param("employeeId") UUID employeeId,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  Limit limit);
+
+    // Tags for a whole page in one IN (...) query, as (evidence ID, tag) pairs
+    @Query("SELECT e.id, t FROM Evidence e JOIN e.tags t WHERE e.id IN :ids")
+    List<Object[]> findTagsByEvidenceIds(@Param("ids") Collection<UUID> ids);
+
     Page<Evidence> findByProjectId(UUID projectId, Pageable pageable);
     
     List<Evidence> findByProjectIdAndCategory(UUID projectId, String category);
@@ -31,4 +95,41 @@ public interface EvidenceRepository extends JpaRepository<Evidence, UUID> {
     List<Evidence> findByProjectIdAndTagsContaining(UUID projectId, String tag);
 
     Page<Evidence> findByEmployeeId(UUID employeeId, Pageable pageable);
+
+    long countByContentHash(String contentHash);
+
+    @Query("SELECT e.id FROM Evidence e WHERE e.processingStatus = :status AND e.updatedAt < :cutoff ORDER BY e.updatedAt")
+    List<UUID> findIdsByProcessingStatus(@Param("status") Evidence.ProcessingStatus status,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         Pageable pageable);
+
+    // Only touches the processing columns, and only if the file was not replaced while it was being processed
+    @Transactional
+    @Modifying
+    @Query("UPDATE Evidence e SET e.processingStatus = :processingStatus, e.checksumStatus = :checksumStatus, " +
+           "e.thumbnailStatus = :thumbnailStatus, e.textStatus = :textStatus, e.thumbnailPath = :thumbnailPath, " +
+           "e.processedAt = :processedAt WHERE e.id = :id AND e.filePath = :filePath")
+    int updateProcessingResult(@Param("id") UUID id,
+                               @Param("filePath") String filePath,
+                               @Param("processingStatus") Evidence.ProcessingStatus processingStatus,
+                               @Param("checksumStatus") Evidence.ProcessingStatus checksumStatus,
+                               @Param("thumbnailStatus") Evidence.ProcessingStatus thumbnailStatus,
+                               @Param("textStatus") Evidence.ProcessingStatus textStatus,
+                               @Param("thumbnailPath") String thumbnailPath,
+                               @Param("processedAt") LocalDateTime processedAt);
+
+    // Counts a run that ended in an error and gives up once maxAttempts is reached. Moving updatedAt holds the
+    // next retry back for the sweep delay. A file replaced meanwhile starts over and is left alone
+    @Transactional
+    @Modifying
+    @Query("UPDATE Evidence e SET e.processingAttempts = e.processingAttempts + 1, " +
+           "e.processingStatus = CASE WHEN e.processingAttempts + 1 >= :maxAttempts THEN :failed ELSE e.processingStatus END, " +
+           "e.updatedAt = :now " +
+           "WHERE e.id = :id AND e.filePath = :filePath AND e.processingStatus = :pending")
+    int recordProcessingFailure(@Param("id") UUID id,
+                                @Param("filePath") String filePath,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("pending") Evidence.ProcessingStatus pending,
+                                @Param("failed") Evidence.ProcessingStatus failed,
+                                @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
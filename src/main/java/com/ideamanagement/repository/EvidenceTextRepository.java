@@ -0,0 +1,11 @@
+package com.ideamanagement.repository;
+
+import com.ideamanagement.entity.EvidenceText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface EvidenceTextRepository extends JpaRepository<EvidenceText, UUID> {
+}
@@ -0,0 +1,42 @@
+package com.ideamanagement.repository;
+
+import com.ideamanagement.entity.EvidenceUpload;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EvidenceUploadRepository extends JpaRepository<EvidenceUpload, UUID> {
+    // Only advances the offset if no other chunk moved it in the meantime
+    @Transactional
+    @Modifying
+    @Query("UPDATE EvidenceUpload u SET u.receivedBytes = :receivedBytes, u.updatedAt = :updatedAt " +
+           "WHERE u.id = :id AND u.receivedBytes = :expectedBytes")
+    int advanceReceivedBytes(@Param("id") UUID id,
+                             @Param("expectedBytes") long expectedBytes,
+                             @Param("receivedBytes") long receivedBytes,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    // An update rather than a save, so an upload that another commit has already claimed is not inserted again
+    @Transactional
+    @Modifying
+    @Query("UPDATE EvidenceUpload u SET u.contentHash = :contentHash WHERE u.id = :id")
+    int recordContentHash(@Param("id") UUID id, @Param("contentHash") String contentHash);
+
+    List<EvidenceUpload> findByUpdatedAtBefore(LocalDateTime cutoff);
+
+    // Row lock held until the calling transaction ends; used to claim an upload for its commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM EvidenceUpload u WHERE u.id = :id")
+    Optional<EvidenceUpload> findByIdForUpdate(@Param("id") UUID id);
+}
@@ -4,16 +4,37 @@ import com.ideamanagement.entity.Idea;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface IdeaRepository extends JpaRepository<Idea, UUID> {
+public interface IdeaRepository extends JpaRepository<Idea, UUID>, JpaSpecificationExecutor<Idea> {
     Page<Idea> findByAssignedTo(String assignedTo, Pageable pageable);
     Page<Idea> findByStatus(Idea.Status status, Pageable pageable);
     Page<Idea> findByTagsContaining(String tag, Pageable pageable);
     Page<Idea> findByEmployeeId(UUID employeeId, Pageable pageable);
     Idea findByIdAndEmployeeId(UUID id, UUID employeeId);
     void deleteByIdAndEmployeeId(UUID id, UUID employeeId);
+
+    // (revision, upvotes): the upvote counter writes past the revision, so both identify a version of the idea
+    @Query("SELECT i.revision, i.upvotes FROM Idea i WHERE i.id = :id AND i.employee.id = :employeeId")
+    List<Object[]> findRevisionAndUpvotes(@Param("id") UUID id, @Param("employeeId") UUID employeeId);
+
+    // Ideas whose stored upvotes differ from their likes, as (idea ID, stored upvotes, like count)
+    @Query("SELECT i.id, i.upvotes, COUNT(l) FROM Idea i LEFT JOIN Like l ON l.idea = i " +
+           "GROUP BY i.id, i.upvotes HAVING i.upvotes <> COUNT(l)")
+    List<Object[]> findUpvoteMismatches();
+
+    // Only applies if the upvotes have not moved since they were compared
+    @Transactional
+    @Modifying
+    @Query("UPDATE Idea i SET i.upvotes = :upvotes WHERE i.id = :id AND i.upvotes = :expected")
+    int reconcileUpvotes(@Param("id") UUID id, @Param("expected") int expected, @Param("upvotes") int upvotes);
 } 
\ No newline at end of file
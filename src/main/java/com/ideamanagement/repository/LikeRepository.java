@@ -4,16 +4,38 @@ import com.ideamanagement.entity.Like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface LikeRepository extends JpaRepository<Like, UUID> {
+public interface LikeRepository extends JpaRepository<Like, UUID>, JpaSpecificationExecutor<Like> {
     Optional<Like> findByUserIdAndIdeaId(UUID userId, UUID ideaId);
     boolean existsByUserIdAndIdeaId(UUID userId, UUID ideaId);
     long countByIdeaId(UUID ideaId);
+
+    // Like count and whether the user is among the likers, for each of the ideas that has likes at all,
+    // as (idea ID, count, likes by the user)
+    @Query("SELECT l.idea.id, COUNT(l), SUM(CASE WHEN l.user.id = :userId THEN 1 ELSE 0 END) " +
+           "FROM Like l WHERE l.idea.id IN :ideaIds GROUP BY l.idea.id")
+    List<Object[]> findLikeStatus(@Param("userId") UUID userId, @Param("ideaIds") Collection<UUID> ideaIds);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.idea.id = :ideaId")
+    int deleteByUserIdAndIdeaId(@Param("userId") UUID userId, @Param("ideaId") UUID ideaId);
+
+    // (idea ID, liked at) pairs, replayed into the trending scores on startup
+    @Query("SELECT l.idea.id, l.createdAt FROM Like l WHERE l.createdAt > :from AND l.createdAt <= :to")
+    List<Object[]> findLikeTimesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     Page<Like> findAllByIdeaId(UUID ideaId, Pageable pageable);
     Page<Like> findAllByUserId(UUID userId, Pageable pageable);
 } 
\ No newline at end of file
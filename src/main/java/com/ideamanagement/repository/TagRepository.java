@@ -1,13 +1,24 @@
 package com.ideamanagement.repository;
 
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, String> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Tag> findByName(String name);
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.ideamanagement.dto.VersionStamp(COUNT(t), MAX(t.updatedAt), SUM(t.revision)) FROM Tag t")
+    VersionStamp findVersionStamp();
 } 
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.ideamanagement.repository;
 
 import com.ideamanagement.entity.VaultSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -9,5 +12,6 @@ import java.util.UUID;
 @Repository
 public interface VaultSettingsRepository extends JpaRepository<VaultSettings, UUID> {
     // Since this is a single-row configuration table, we can add a method to get the first record
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     VaultSettings findFirstByOrderByIdAsc();
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.ideamanagement.service;
 
 import com.ideamanagement.dto.ApiEndpointDto;
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.entity.ApiEndpoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,4 +17,5 @@ public interface ApiEndpointService {
     Page<ApiEndpointDto> getEndpointsByStatus(ApiEndpoint.Status status, Pageable pageable);
     Page<ApiEndpointDto> getEndpointsByMethod(ApiEndpoint.HttpMethod method, Pageable pageable);
     Page<ApiEndpointDto> getEndpointsByVersion(String version, Pageable pageable);
+    CursorPageDto<ApiEndpointDto> scrollEndpoints(UUID employeeId, ApiEndpoint.Status status, ApiEndpoint.HttpMethod method, String version, String cursor, Integer limit);
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.dto.ApiTestLogBatchResultDto;
+
+import java.io.InputStream;
+
+// Stores the test logs of a whole test run in one request. Logs are committed chunk by chunk, and a rejected log
+// is reported in its result without stopping the rest of the batch
+public interface ApiTestLogBatchService {
+    // A JSON array of test logs as accepted by POST /api/test-logs
+    ApiTestLogBatchResultDto ingestJsonArray(InputStream content);
+    // One JSON test log per line
+    ApiTestLogBatchResultDto ingestNdjson(InputStream content);
+}
@@ -1,6 +1,7 @@
 package com.ideamanagement.service;
 
 import com.ideamanagement.dto.ApiTestLogDto;
+import com.ideamanagement.dto.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,4 +12,5 @@ public interface ApiTestLogService {
     ApiTestLogDto getTestLogById(UUID id);
     Page<ApiTestLogDto> getTestLogsByEndpointId(UUID endpointId, Pageable pageable);
     Page<ApiTestLogDto> getAllTestLogs(Pageable pageable);
+    CursorPageDto<ApiTestLogDto> scrollTestLogs(UUID endpointId, String cursor, Integer limit);
 } 
\ No newline at end of file
@@ -3,9 +3,9 @@ package com.ideamanagement.service;
 import com.ideamanagement.dto.DatabaseTrackerDto;
 import com.ideamanagement.entity.DatabaseTracker;
 import com.ideamanagement.entity.DatabaseTracker.Status;
+import com.ideamanagement.mapper.DatabaseTrackerMapper;
 import com.ideamanagement.repository.DatabaseTrackerRepository;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,9 +17,11 @@ import java.time.LocalDate;
 @Transactional
 public class DatabaseTrackerService {
     private final DatabaseTrackerRepository databaseTrackerRepository;
+    private final DatabaseTrackerMapper databaseTrackerMapper;
 
-    public DatabaseTrackerService(DatabaseTrackerRepository databaseTrackerRepository) {
+    public DatabaseTrackerService(DatabaseTrackerRepository databaseTrackerRepository, DatabaseTrackerMapper databaseTrackerMapper) {
         this.databaseTrackerRepository = databaseTrackerRepository;
+        this.databaseTrackerMapper = databaseTrackerMapper;
     }
 
     public DatabaseTrackerDto createDatabaseTracker(DatabaseTrackerDto dto) {
@@ -95,7 +97,7 @@ public class DatabaseTrackerService {
     }
 
     private void copyToEntity(DatabaseTrackerDto dto, DatabaseTracker entity) {
-        BeanUtils.copyProperties(dto, entity, "id", "lastModified", "employee");
+        databaseTrackerMapper.copyToEntity(dto, entity);
         if (dto.getMigrationsJson() == null) {
             entity.setMigrationsJson("[]");
         }
@@ -105,19 +107,9 @@ public class DatabaseTrackerService {
         if (dto.getMigrationsCount() == null) {
             entity.setMigrationsCount(0);
         }
-        if (dto.getEmployeeId() != null) {
-            com.ideamanagement.entity.Employee emp = new com.ideamanagement.entity.Employee();
-            emp.setId(dto.getEmployeeId());
-            entity.setEmployee(emp);
-        }
     }
 
     private DatabaseTrackerDto copyToDto(DatabaseTracker entity) {
-        DatabaseTrackerDto dto = new DatabaseTrackerDto();
-        BeanUtils.copyProperties(entity, dto);
-        if (entity.getEmployee() != null) {
-            dto.setEmployeeId(entity.getEmployee().getId());
-        }
-        return dto;
+        return databaseTrackerMapper.toDto(entity);
     }
 } 
\ No newline at end of file
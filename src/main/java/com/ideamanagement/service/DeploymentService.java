@@ -1,5 +1,6 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.DeploymentDto;
 import com.ideamanagement.entity.Deployment;
 import org.springframework.data.domain.Page;
@@ -12,10 +13,13 @@ public interface DeploymentService {
     DeploymentDto updateDeployment(UUID id, UUID employeeId, DeploymentDto deploymentDto);
     void deleteDeployment(UUID id, UUID employeeId);
     DeploymentDto getDeploymentById(UUID id, UUID employeeId);
+    String getDeploymentETag(UUID id, UUID employeeId);
     Page<DeploymentDto> getAllDeployments(UUID employeeId, Pageable pageable);
+    String getDeploymentListETag(UUID employeeId);
     Page<DeploymentDto> getDeploymentsByEnvironment(String environment, Pageable pageable);
     Page<DeploymentDto> getDeploymentsByStatus(Deployment.DeploymentStatus status, Pageable pageable);
     Page<DeploymentDto> getDeploymentsByHealth(Deployment.HealthStatus health, Pageable pageable);
     Page<DeploymentDto> getDeploymentsByVersion(String version, Pageable pageable);
+    CursorPageDto<DeploymentDto> scrollDeployments(UUID employeeId, String environment, Deployment.DeploymentStatus status, Deployment.HealthStatus health, String version, String cursor, Integer limit);
     DeploymentDto patchDeployment(UUID id, UUID employeeId, DeploymentDto deploymentDto);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.EmployeeDto;
 import com.ideamanagement.entity.Employee;
 import org.springframework.data.domain.Page;
@@ -16,5 +17,6 @@ public interface EmployeeService {
     Page<EmployeeDto> getAllEmployees(Pageable pageable);
     Page<EmployeeDto> getEmployeesByStatus(Employee.Status status, Pageable pageable);
     Page<EmployeeDto> getEmployeesByDepartment(String department, Pageable pageable);
+    CursorPageDto<EmployeeDto> scrollEmployees(Employee.Status status, String department, String cursor, Integer limit);
     boolean existsByEmail(String email);
 } 
\ No newline at end of file
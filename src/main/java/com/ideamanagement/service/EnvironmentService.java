@@ -1,5 +1,6 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.EnvironmentDto;
 import com.ideamanagement.entity.Environment;
 import org.springframework.data.domain.Page;
@@ -12,7 +13,10 @@ public interface EnvironmentService {
     EnvironmentDto updateEnvironment(UUID id, EnvironmentDto environmentDto);
     void deleteEnvironment(UUID id);
     EnvironmentDto getEnvironmentById(UUID id);
+    String getEnvironmentETag(UUID id);
     EnvironmentDto getEnvironmentByName(String name);
     Page<EnvironmentDto> getAllEnvironments(Pageable pageable);
+    String getEnvironmentListETag();
     Page<EnvironmentDto> getEnvironmentsByStatus(Environment.EnvironmentStatus status, Pageable pageable);
+    CursorPageDto<EnvironmentDto> scrollEnvironments(Environment.EnvironmentStatus status, String cursor, Integer limit);
 } 
\ No newline at end of file
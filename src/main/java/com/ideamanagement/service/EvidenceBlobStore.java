@@ -0,0 +1,57 @@
+package com.ideamanagement.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+
+// Content-addressed storage for evidence files. Blobs are keyed by the SHA-256 of their content,
+// so identical uploads share one file; Evidence.contentHash rows act as the reference count.
+// A stored blob stays guarded against deleteIfUnreferenced until the StoredBlob is released, which callers
+// do once the row referencing it is committed or rolled back; otherwise a concurrent delete could count no
+// references in between and remove the file the new row is about to point at.
+public interface EvidenceBlobStore {
+    StoredBlob store(InputStream content) throws IOException;
+    // Adopts a file that was already written elsewhere on the same file system (moved, not copied)
+    StoredBlob store(Path file) throws IOException;
+    // Guards a blob stored earlier, or returns null if it no longer exists
+    StoredBlob retain(String contentHash, long size);
+    // SHA-256 of a file's content, in the same hex form used as the blob key
+    String hash(Path file) throws IOException;
+    Path resolve(String contentHash);
+    boolean exists(String contentHash);
+    // Deletes the blob if unreferenced still holds once no one else is storing or retaining it
+    void deleteIfUnreferenced(String contentHash, BooleanSupplier unreferenced) throws IOException;
+
+    @Getter
+    class StoredBlob {
+        private final String contentHash;
+        private final Path path;
+        private final long size;
+        // false when the content was already stored and the upload was deduplicated
+        private final boolean created;
+        @Getter(AccessLevel.NONE)
+        private final Lock guard;
+        private boolean released;
+
+        public StoredBlob(String contentHash, Path path, long size, boolean created, Lock guard) {
+            this.contentHash = contentHash;
+            this.path = path;
+            this.size = size;
+            this.created = created;
+            this.guard = guard;
+        }
+
+        // Must be called on the thread that stored the blob; later calls do nothing
+        public void release() {
+            if (!released) {
+                released = true;
+                guard.unlock();
+            }
+        }
+    }
+}
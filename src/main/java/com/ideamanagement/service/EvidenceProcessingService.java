@@ -0,0 +1,10 @@
+package com.ideamanagement.service;
+
+import java.util.UUID;
+
+// Background post-processing of stored evidence files: checksum verification, thumbnails and text extraction
+public interface EvidenceProcessingService {
+    // Queues the evidence once the current transaction commits; never blocks the caller
+    void enqueue(UUID evidenceId);
+    void process(UUID evidenceId);
+}
@@ -1,6 +1,9 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
+import com.ideamanagement.dto.EvidenceContentDto;
 import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceFilterDto;
 import com.ideamanagement.entity.Evidence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,11 +13,18 @@ import java.util.UUID;
 
 public interface EvidenceService {
     EvidenceDto createEvidence(EvidenceDto evidenceDto);
+    EvidenceDto createEvidence(EvidenceDto evidenceDto, EvidenceBlobStore.StoredBlob blob);
     EvidenceDto getEvidence(UUID id);
+    EvidenceContentDto getEvidenceContent(UUID id);
+    EvidenceContentDto getEvidenceThumbnail(UUID id);
     Page<EvidenceDto> getAllEvidence(Pageable pageable);
     Page<EvidenceDto> getEvidenceByProject(UUID projectId, Pageable pageable);
+    CursorPageDto<EvidenceDto> filterEvidence(UUID projectId, EvidenceFilterDto filter, String cursor, Integer limit);
+    @Deprecated
     List<EvidenceDto> getEvidenceByProjectAndCategory(UUID projectId, String category);
+    @Deprecated
     List<EvidenceDto> getEvidenceByProjectAndTag(UUID projectId, String tag);
+    @Deprecated
     List<EvidenceDto> getEvidenceByProjectAndStatus(UUID projectId, Evidence.EvidenceStatus status);
     EvidenceDto updateEvidence(UUID id, EvidenceDto evidenceDto);
     EvidenceDto updateEvidenceStatus(UUID id, Evidence.EvidenceStatus status);
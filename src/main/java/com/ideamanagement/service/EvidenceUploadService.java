@@ -0,0 +1,15 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceUploadDto;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface EvidenceUploadService {
+    EvidenceUploadDto initUpload(EvidenceUploadDto uploadDto);
+    EvidenceUploadDto getUpload(UUID uploadId);
+    EvidenceUploadDto writeChunk(UUID uploadId, long offset, InputStream content);
+    EvidenceDto commitUpload(UUID uploadId);
+    void abortUpload(UUID uploadId);
+}
@@ -0,0 +1,43 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.entity.Idea;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.UUID;
+
+// Writes every matching idea to a stream, newest first, without holding the result in memory
+public interface IdeaExportService {
+    void exportIdeas(Format format, UUID employeeId, String assignee, Idea.Status status, String tag, OutputStream out) throws IOException;
+
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unknown export format '" + name + "', expected csv or ndjson");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.dto.IdeaImportResultDto;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+// Creates ideas in bulk from spreadsheet exports. Rows are committed chunk by chunk, and a rejected row is
+// reported without stopping the rest of the import
+public interface IdeaImportService {
+    // Rows without an employee ID are owned by defaultEmployeeId, which may be null
+    IdeaImportResultDto importCsv(InputStream content, UUID defaultEmployeeId);
+    IdeaImportResultDto importNdjson(InputStream content, UUID defaultEmployeeId);
+}
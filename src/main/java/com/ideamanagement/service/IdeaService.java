@@ -1,20 +1,28 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.TrendingIdeaDto;
 import com.ideamanagement.entity.Idea;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface IdeaService {
     IdeaDto createIdea(IdeaDto ideaDto);
     IdeaDto updateIdea(UUID id, UUID employeeId, IdeaDto ideaDto);
     IdeaDto getIdeaById(UUID id, UUID employeeId);
+    // Null when the idea does not exist for the employee
+    String getIdeaETag(UUID id, UUID employeeId);
     Page<IdeaDto> getAllIdeas(UUID employeeId, Pageable pageable);
     Page<IdeaDto> getIdeasByAssignee(String assignee, Pageable pageable);
     Page<IdeaDto> getIdeasByStatus(Idea.Status status, Pageable pageable);
     Page<IdeaDto> getIdeasByTag(String tag, Pageable pageable);
+    Page<IdeaDto> searchIdeas(String query, Idea.Status status, String tag, Idea.Priority priority, Pageable pageable);
+    List<TrendingIdeaDto> getTrendingIdeas(Idea.Status status, String tag, int limit);
+    CursorPageDto<IdeaDto> scrollIdeas(UUID employeeId, String assignee, Idea.Status status, String tag, String cursor, Integer limit);
     void deleteIdea(UUID id, UUID employeeId);
     IdeaDto patchIdea(UUID id, UUID employeeId, IdeaDto ideaDto);
     Page<IdeaDto> getAllIdeas(Pageable pageable);
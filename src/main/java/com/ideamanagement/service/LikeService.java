@@ -1,9 +1,12 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.LikeDto;
+import com.ideamanagement.dto.LikeStatusDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface LikeService {
@@ -11,6 +14,8 @@ public interface LikeService {
     void deleteLike(UUID userId, UUID ideaId);
     boolean hasLiked(UUID userId, UUID ideaId);
     long getLikeCount(UUID ideaId);
+    List<LikeStatusDto> getLikeStatus(UUID userId, List<UUID> ideaIds);
     Page<LikeDto> getLikesByIdea(UUID ideaId, Pageable pageable);
     Page<LikeDto> getLikesByUser(UUID userId, Pageable pageable);
+    CursorPageDto<LikeDto> scrollLikes(UUID ideaId, UUID userId, String cursor, Integer limit);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.ProjectDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ public interface ProjectService {
     ProjectDto createProject(ProjectDto projectDto);
     ProjectDto getProject(UUID id);
     Page<ProjectDto> getAllProjects(Pageable pageable);
+    CursorPageDto<ProjectDto> scrollProjects(String cursor, Integer limit);
     ProjectDto updateProject(UUID id, ProjectDto projectDto);
     void deleteProject(UUID id);
     boolean existsByName(String name);
@@ -0,0 +1,19 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.entity.Idea;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+// Full-text index over idea titles and descriptions, kept up to date by IdeaService
+public interface SearchService {
+    // Index changes are applied once the current transaction commits
+    void indexIdea(Idea idea);
+    void indexIdeas(List<Idea> ideas);
+    void removeIdea(UUID ideaId);
+    // IDs of the matching ideas, best match first
+    Page<UUID> searchIdeas(String query, Idea.Status status, String tag, Idea.Priority priority, Pageable pageable);
+    void rebuildIdeaIndex();
+}
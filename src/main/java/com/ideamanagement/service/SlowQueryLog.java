@@ -0,0 +1,16 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.dto.QueryStatsDto;
+import com.ideamanagement.dto.SlowQueryDto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// Times every JDBC statement; keeps the slow ones and a sample of the rest, with their callers and query plans
+public interface SlowQueryLog {
+    // Parameters are only resolved for a statement whose plan is about to be captured
+    void record(String sql, long elapsedNanos, boolean success, Supplier<List<Object>> parameters);
+    List<SlowQueryDto> getRecentQueries(int limit);
+    List<QueryStatsDto> getQueryStats(int limit);
+    void reset();
+}
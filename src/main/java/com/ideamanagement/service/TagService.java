@@ -1,10 +1,11 @@
 package com.ideamanagement.service;
 
 import com.ideamanagement.dto.TagDto;
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Tag;
+import com.ideamanagement.mapper.TagMapper;
 import com.ideamanagement.repository.TagRepository;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +16,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class TagService {
     private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
 
-    public TagService(TagRepository tagRepository) {
+    public TagService(TagRepository tagRepository, TagMapper tagMapper) {
         this.tagRepository = tagRepository;
+        this.tagMapper = tagMapper;
     }
 
     public TagDto createTag(TagDto tagDto) {
@@ -26,12 +29,9 @@ public class TagService {
         }
 
         Tag tag = new Tag();
-        BeanUtils.copyProperties(tagDto, tag);
+        tagMapper.copyToEntity(tagDto, tag);
         tag = tagRepository.save(tag);
-        
-        TagDto savedTagDto = new TagDto();
-        BeanUtils.copyProperties(tag, savedTagDto);
-        return savedTagDto;
+        return tagMapper.toDto(tag);
     }
 
     public TagDto updateTag(String id, TagDto tagDto) {
@@ -43,33 +43,33 @@ public class TagService {
             throw new IllegalArgumentException("Tag name already exists");
         }
 
-        BeanUtils.copyProperties(tagDto, tag, "id");
+        tagMapper.copyToEntity(tagDto, tag);
         tag = tagRepository.save(tag);
-        
-        TagDto updatedTagDto = new TagDto();
-        BeanUtils.copyProperties(tag, updatedTagDto);
-        return updatedTagDto;
+        return tagMapper.toDto(tag);
     }
 
     public TagDto getTagById(String id) {
         Tag tag = tagRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Tag not found"));
-        
-        TagDto tagDto = new TagDto();
-        BeanUtils.copyProperties(tag, tagDto);
-        return tagDto;
+        return tagMapper.toDto(tag);
+    }
+
+    public String getTagETag(String id) {
+        return tagRepository.findById(id)
+            .map(tag -> VersionStamp.eTag(tag.getRevision()))
+            .orElse(null);
     }
 
     public List<TagDto> getAllTags() {
         return tagRepository.findAll().stream()
-            .map(tag -> {
-                TagDto tagDto = new TagDto();
-                BeanUtils.copyProperties(tag, tagDto);
-                return tagDto;
-            })
+            .map(tagMapper::toDto)
             .collect(Collectors.toList());
     }
 
+    public String getTagListETag() {
+        return tagRepository.findVersionStamp().toETag();
+    }
+
     public void deleteTag(String id) {
         if (!tagRepository.existsById(id)) {
             throw new EntityNotFoundException("Tag not found");
@@ -0,0 +1,16 @@
+package com.ideamanagement.service;
+
+import com.ideamanagement.dto.TrendingIdeaDto;
+import com.ideamanagement.entity.Idea;
+
+import java.util.List;
+import java.util.UUID;
+
+// In-memory ranking of ideas by time-decayed likes; all updates are applied once the current transaction commits
+public interface TrendingService {
+    void recordLike(UUID ideaId);
+    void recordUnlike(UUID ideaId);
+    void updateIdea(Idea idea);
+    void removeIdea(UUID ideaId);
+    List<TrendingIdeaDto> getTrending(Idea.Status status, String tag, int limit);
+}
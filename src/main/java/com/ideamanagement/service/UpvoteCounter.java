@@ -0,0 +1,11 @@
+package com.ideamanagement.service;
+
+import java.util.UUID;
+
+// Keeps ideas.upvotes in step with the likes table without touching the idea row on every click
+public interface UpvoteCounter {
+    // Counted once the current transaction commits
+    void record(UUID ideaId, int delta);
+    void flush();
+    void reconcile();
+}
@@ -1,5 +1,6 @@
 package com.ideamanagement.service;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.UserDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,7 @@ public interface UserService {
     UserDto getUserByUsername(String username);
     UserDto getUserByEmail(String email);
     Page<UserDto> getAllUsers(Pageable pageable);
+    CursorPageDto<UserDto> scrollUsers(String cursor, Integer limit);
     UserDto updateUser(UUID id, UserDto userDto);
     void deleteUser(UUID id);
     boolean existsByUsername(String username);
@@ -1,6 +1,7 @@
 package com.ideamanagement.service.impl;
 
 import com.ideamanagement.dto.ApiEndpointDto;
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.entity.ApiEndpoint;
 import com.ideamanagement.repository.ApiEndpointRepository;
 import com.ideamanagement.service.ApiEndpointService;
@@ -8,6 +9,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -82,6 +84,17 @@ public class ApiEndpointServiceImpl implements ApiEndpointService {
             .map(this::copyToDto);
     }
 
+    @Override
+    public CursorPageDto<ApiEndpointDto> scrollEndpoints(UUID employeeId, ApiEndpoint.Status status, ApiEndpoint.HttpMethod method, String version, String cursor, Integer limit) {
+        Specification<ApiEndpoint> specification = Specification.allOf(
+            KeysetPagination.equalTo(employeeId, "employee", "id"),
+            KeysetPagination.equalTo(status, "status"),
+            KeysetPagination.equalTo(method, "method"),
+            KeysetPagination.equalTo(version, "version"));
+        return KeysetPagination.scroll(apiEndpointRepository, specification, "createdAt",
+            ApiEndpoint::getCreatedAt, ApiEndpoint::getId, cursor, limit, this::copyToDto);
+    }
+
     private void copyFromDto(ApiEndpoint endpoint, ApiEndpointDto dto) {
         endpoint.setName(dto.getName());
         endpoint.setMethod(dto.getMethod());
@@ -1,6 +1,7 @@
 package com.ideamanagement.service.impl;
 
 import com.ideamanagement.dto.ApiTestLogDto;
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.entity.ApiEndpoint;
 import com.ideamanagement.entity.ApiTestLog;
 import com.ideamanagement.repository.ApiEndpointRepository;
@@ -10,6 +11,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,6 +60,13 @@ public class ApiTestLogServiceImpl implements ApiTestLogService {
             .map(this::copyToDto);
     }
 
+    @Override
+    public CursorPageDto<ApiTestLogDto> scrollTestLogs(UUID endpointId, String cursor, Integer limit) {
+        Specification<ApiTestLog> specification = KeysetPagination.equalTo(endpointId, "endpoint", "id");
+        return KeysetPagination.scroll(apiTestLogRepository, specification, "executedAt",
+            ApiTestLog::getExecutedAt, ApiTestLog::getId, cursor, limit, this::copyToDto);
+    }
+
     private ApiTestLogDto copyToDto(ApiTestLog testLog) {
         ApiTestLogDto dto = new ApiTestLogDto();
         dto.setId(testLog.getId());
@@ -0,0 +1,102 @@
+package com.ideamanagement.service.impl;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// The write loop shared by the bulk imports. Rows are validated as they are added and written in chunks: each chunk
+// looks up the rows it references with one query, skipping IDs already found for earlier chunks, and is written
+// in its own transaction. A chunk that still fails is retried row by row, so one bad row cannot lose the others
+abstract class ChunkedJdbcWriter<T> {
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final List<T> pending = new ArrayList<>();
+    private final Set<UUID> knownReferences = new HashSet<>();
+
+    ChunkedJdbcWriter(TransactionTemplate transactionTemplate, int chunkSize) {
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    // The reason the row cannot be stored, or null. Checked up front with the rules the tables enforce
+    protected abstract String validate(T row);
+
+    // The ID of the row that must exist for this one to be stored, or null when it references none
+    protected abstract UUID reference(T row);
+
+    protected abstract Set<UUID> findExistingReferences(Set<UUID> ids);
+
+    protected abstract String referenceNotFound(UUID id);
+
+    // Runs inside the chunk's transaction
+    protected abstract void write(List<T> chunk);
+
+    protected abstract void written(int count);
+
+    protected abstract void rejected(T row, String message);
+
+    final void add(T row) {
+        String problem = validate(row);
+        if (problem != null) {
+            rejected(row, problem);
+            return;
+        }
+        pending.add(row);
+        if (pending.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    final void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<UUID> unresolved = new HashSet<>();
+        for (T row : pending) {
+            UUID reference = reference(row);
+            if (reference != null && !knownReferences.contains(reference)) {
+                unresolved.add(reference);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            knownReferences.addAll(findExistingReferences(unresolved));
+        }
+
+        List<T> chunk = new ArrayList<>(pending.size());
+        for (T row : pending) {
+            UUID reference = reference(row);
+            if (reference != null && !knownReferences.contains(reference)) {
+                rejected(row, referenceNotFound(reference));
+            } else {
+                chunk.add(row);
+            }
+        }
+        pending.clear();
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            writeInTransaction(chunk);
+            written(chunk.size());
+        } catch (DataAccessException ex) {
+            for (T row : chunk) {
+                try {
+                    writeInTransaction(List.of(row));
+                    written(1);
+                } catch (DataAccessException rowEx) {
+                    rejected(row, rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void writeInTransaction(List<T> chunk) {
+        transactionTemplate.executeWithoutResult(status -> write(chunk));
+    }
+}
@@ -1,14 +1,17 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.DeploymentDto;
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Deployment;
 import com.ideamanagement.exception.EntityNotFoundException;
+import com.ideamanagement.mapper.DeploymentMapper;
 import com.ideamanagement.repository.DeploymentRepository;
 import com.ideamanagement.service.DeploymentService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.ideamanagement.repository.EmployeeRepository;
@@ -20,13 +23,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class DeploymentServiceImpl implements DeploymentService {
     private final DeploymentRepository deploymentRepository;
-    private final ModelMapper modelMapper;
+    private final DeploymentMapper deploymentMapper;
     private final EmployeeRepository employeeRepository;
 
     @Override
     @Transactional
     public DeploymentDto createDeployment(DeploymentDto deploymentDto) {
-        Deployment deployment = modelMapper.map(deploymentDto, Deployment.class);
+        Deployment deployment = new Deployment();
+        deploymentMapper.copyToEntity(deploymentDto, deployment);
         if (deploymentDto.getEmployeeId() != null) {
             Employee employee = employeeRepository.findById(deploymentDto.getEmployeeId())
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + deploymentDto.getEmployeeId()));
@@ -35,11 +39,7 @@ public class DeploymentServiceImpl implements DeploymentService {
             deployment.setEmployee(null);
         }
         deployment = deploymentRepository.save(deployment);
-        DeploymentDto result = modelMapper.map(deployment, DeploymentDto.class);
-        if (deployment.getEmployee() != null) {
-            result.setEmployeeId(deployment.getEmployee().getId());
-        }
-        return result;
+        return deploymentMapper.toDto(deployment);
     }
 
     @Override
@@ -49,7 +49,7 @@ public class DeploymentServiceImpl implements DeploymentService {
         if (deployment == null) {
             throw new EntityNotFoundException("Deployment not found with id: " + id + " for employee: " + employeeId);
         }
-        modelMapper.map(deploymentDto, deployment);
+        deploymentMapper.copyToEntity(deploymentDto, deployment);
         if (deploymentDto.getEmployeeId() != null) {
             Employee employee = employeeRepository.findById(deploymentDto.getEmployeeId())
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + deploymentDto.getEmployeeId()));
@@ -58,11 +58,7 @@ public class DeploymentServiceImpl implements DeploymentService {
             deployment.setEmployee(null);
         }
         deployment = deploymentRepository.save(deployment);
-        DeploymentDto result = modelMapper.map(deployment, DeploymentDto.class);
-        if (deployment.getEmployee() != null) {
-            result.setEmployeeId(deployment.getEmployee().getId());
-        }
-        return result;
+        return deploymentMapper.toDto(deployment);
     }
 
     @Override
@@ -82,42 +78,69 @@ public class DeploymentServiceImpl implements DeploymentService {
         if (deployment == null) {
             throw new EntityNotFoundException("Deployment not found with id: " + id + " for employee: " + employeeId);
         }
-        return modelMapper.map(deployment, DeploymentDto.class);
+        return deploymentMapper.toDto(deployment);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getDeploymentETag(UUID id, UUID employeeId) {
+        return deploymentRepository.findRevision(id, employeeId)
+            .map(revision -> VersionStamp.eTag(revision))
+            .orElse(null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeploymentDto> getAllDeployments(UUID employeeId, Pageable pageable) {
         return deploymentRepository.findByEmployeeId(employeeId, pageable)
-            .map(deployment -> modelMapper.map(deployment, DeploymentDto.class));
+            .map(deploymentMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getDeploymentListETag(UUID employeeId) {
+        return deploymentRepository.findVersionStampByEmployeeId(employeeId).toETag();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeploymentDto> getDeploymentsByEnvironment(String environment, Pageable pageable) {
         return deploymentRepository.findByEnvironment(environment, pageable)
-            .map(deployment -> modelMapper.map(deployment, DeploymentDto.class));
+            .map(deploymentMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeploymentDto> getDeploymentsByStatus(Deployment.DeploymentStatus status, Pageable pageable) {
         return deploymentRepository.findByStatus(status, pageable)
-            .map(deployment -> modelMapper.map(deployment, DeploymentDto.class));
+            .map(deploymentMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeploymentDto> getDeploymentsByHealth(Deployment.HealthStatus health, Pageable pageable) {
         return deploymentRepository.findByHealth(health, pageable)
-            .map(deployment -> modelMapper.map(deployment, DeploymentDto.class));
+            .map(deploymentMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<DeploymentDto> getDeploymentsByVersion(String version, Pageable pageable) {
         return deploymentRepository.findByVersion(version, pageable)
-            .map(deployment -> modelMapper.map(deployment, DeploymentDto.class));
+            .map(deploymentMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<DeploymentDto> scrollDeployments(UUID employeeId, String environment, Deployment.DeploymentStatus status, Deployment.HealthStatus health, String version, String cursor, Integer limit) {
+        Specification<Deployment> specification = Specification.allOf(
+            KeysetPagination.equalTo(employeeId, "employee", "id"),
+            KeysetPagination.equalTo(environment, "environment"),
+            KeysetPagination.equalTo(status, "status"),
+            KeysetPagination.equalTo(health, "health"),
+            KeysetPagination.equalTo(version, "version"));
+        return KeysetPagination.scroll(deploymentRepository, specification, "createdAt",
+            Deployment::getCreatedAt, Deployment::getId, cursor, limit, deploymentMapper::toDto);
     }
 
     @Override
@@ -145,10 +168,6 @@ public class DeploymentServiceImpl implements DeploymentService {
             deployment.setEmployee(employee);
         }
         deployment = deploymentRepository.save(deployment);
-        DeploymentDto result = modelMapper.map(deployment, DeploymentDto.class);
-        if (deployment.getEmployee() != null) {
-            result.setEmployeeId(deployment.getEmployee().getId());
-        }
-        return result;
+        return deploymentMapper.toDto(deployment);
     }
 } 
\ No newline at end of file
@@ -1,16 +1,25 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.EmployeeDto;
 import com.ideamanagement.entity.Employee;
+import com.ideamanagement.entity.Environment;
+import com.ideamanagement.entity.Project;
 import com.ideamanagement.exception.EntityNotFoundException;
+import com.ideamanagement.mapper.EmployeeMapper;
 import com.ideamanagement.repository.EmployeeRepository;
 import com.ideamanagement.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 
@@ -18,14 +27,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeRepository employeeRepository;
-    private final ModelMapper modelMapper;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     @Transactional
     public EmployeeDto createEmployee(EmployeeDto employeeDto) {
-        Employee employee = modelMapper.map(employeeDto, Employee.class);
+        Employee employee = new Employee();
+        employeeMapper.copyToEntity(employeeDto, employee);
         employee = employeeRepository.save(employee);
-        return modelMapper.map(employee, EmployeeDto.class);
+        return employeeMapper.toDto(employee);
     }
 
     @Override
@@ -33,9 +44,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeDto updateEmployee(UUID id, EmployeeDto employeeDto) {
         Employee employee = employeeRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
-        modelMapper.map(employeeDto, employee);
+        employeeMapper.copyToEntity(employeeDto, employee);
         employee = employeeRepository.save(employee);
-        return modelMapper.map(employee, EmployeeDto.class);
+        return employeeMapper.toDto(employee);
     }
 
     @Override
@@ -45,6 +56,17 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new EntityNotFoundException("Employee not found with id: " + id);
         }
         employeeRepository.deleteById(id);
+        // The database cascades the delete to the employee's projects and environments, which Hibernate does not
+        // see, so their cached copies and cached lookups are dropped once the delete is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+                cache.evictEntityData(Project.class);
+                cache.evictEntityData(Environment.class);
+                cache.evictDefaultQueryRegion();
+            }
+        });
     }
 
     @Override
@@ -52,7 +74,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeDto getEmployeeById(UUID id) {
         Employee employee = employeeRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + id));
-        return modelMapper.map(employee, EmployeeDto.class);
+        return employeeMapper.toDto(employee);
     }
 
     @Override
@@ -60,28 +82,38 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeDto getEmployeeByEmail(String email) {
         Employee employee = employeeRepository.findByEmail(email)
             .orElseThrow(() -> new EntityNotFoundException("Employee not found with email: " + email));
-        return modelMapper.map(employee, EmployeeDto.class);
+        return employeeMapper.toDto(employee);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeDto> getAllEmployees(Pageable pageable) {
         return employeeRepository.findAll(pageable)
-            .map(employee -> modelMapper.map(employee, EmployeeDto.class));
+            .map(employeeMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeDto> getEmployeesByStatus(Employee.Status status, Pageable pageable) {
         return employeeRepository.findByStatus(status, pageable)
-            .map(employee -> modelMapper.map(employee, EmployeeDto.class));
+            .map(employeeMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeDto> getEmployeesByDepartment(String department, Pageable pageable) {
         return employeeRepository.findByDepartment(department, pageable)
-            .map(employee -> modelMapper.map(employee, EmployeeDto.class));
+            .map(employeeMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<EmployeeDto> scrollEmployees(Employee.Status status, String department, String cursor, Integer limit) {
+        Specification<Employee> specification = Specification.allOf(
+            KeysetPagination.equalTo(status, "status"),
+            KeysetPagination.equalTo(department, "department"));
+        return KeysetPagination.scroll(employeeRepository, specification, "createdAt",
+            Employee::getCreatedAt, Employee::getId, cursor, limit, employeeMapper::toDto);
     }
 
     @Override
@@ -1,14 +1,17 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.EnvironmentDto;
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Environment;
 import com.ideamanagement.exception.EntityNotFoundException;
+import com.ideamanagement.mapper.EnvironmentMapper;
 import com.ideamanagement.repository.EnvironmentRepository;
 import com.ideamanagement.service.EnvironmentService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +21,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EnvironmentServiceImpl implements EnvironmentService {
     private final EnvironmentRepository environmentRepository;
-    private final ModelMapper modelMapper;
+    private final EnvironmentMapper environmentMapper;
 
     @Override
     @Transactional
     public EnvironmentDto createEnvironment(EnvironmentDto environmentDto) {
-        Environment environment = modelMapper.map(environmentDto, Environment.class);
+        Environment environment = new Environment();
+        environmentMapper.copyToEntity(environmentDto, environment);
         environment = environmentRepository.save(environment);
-        return modelMapper.map(environment, EnvironmentDto.class);
+        return environmentMapper.toDto(environment);
     }
 
     @Override
@@ -34,9 +38,9 @@ public class EnvironmentServiceImpl implements EnvironmentService {
         Environment environment = environmentRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Environment not found with id: " + id));
         
-        modelMapper.map(environmentDto, environment);
+        environmentMapper.copyToEntity(environmentDto, environment);
         environment = environmentRepository.save(environment);
-        return modelMapper.map(environment, EnvironmentDto.class);
+        return environmentMapper.toDto(environment);
     }
 
     @Override
@@ -53,7 +57,16 @@ public class EnvironmentServiceImpl implements EnvironmentService {
     public EnvironmentDto getEnvironmentById(UUID id) {
         Environment environment = environmentRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Environment not found with id: " + id));
-        return modelMapper.map(environment, EnvironmentDto.class);
+        return environmentMapper.toDto(environment);
+    }
+
+    // Environments are in the second-level cache, so the revision usually comes from there without a query
+    @Override
+    @Transactional(readOnly = true)
+    public String getEnvironmentETag(UUID id) {
+        return environmentRepository.findById(id)
+            .map(environment -> VersionStamp.eTag(environment.getRevision()))
+            .orElse(null);
     }
 
     @Override
@@ -61,20 +74,34 @@ public class EnvironmentServiceImpl implements EnvironmentService {
     public EnvironmentDto getEnvironmentByName(String name) {
         Environment environment = environmentRepository.findByName(name)
             .orElseThrow(() -> new EntityNotFoundException("Environment not found with name: " + name));
-        return modelMapper.map(environment, EnvironmentDto.class);
+        return environmentMapper.toDto(environment);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EnvironmentDto> getAllEnvironments(Pageable pageable) {
         return environmentRepository.findAll(pageable)
-            .map(environment -> modelMapper.map(environment, EnvironmentDto.class));
+            .map(environmentMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getEnvironmentListETag() {
+        return environmentRepository.findVersionStamp().toETag();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EnvironmentDto> getEnvironmentsByStatus(Environment.EnvironmentStatus status, Pageable pageable) {
         return environmentRepository.findByStatus(status, pageable)
-            .map(environment -> modelMapper.map(environment, EnvironmentDto.class));
+            .map(environmentMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<EnvironmentDto> scrollEnvironments(Environment.EnvironmentStatus status, String cursor, Integer limit) {
+        Specification<Environment> specification = KeysetPagination.equalTo(status, "status");
+        return KeysetPagination.scroll(environmentRepository, specification, "createdAt",
+            Environment::getCreatedAt, Environment::getId, cursor, limit, environmentMapper::toDto);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,349 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.EvidenceText;
+import com.ideamanagement.repository.EvidenceRepository;
+import com.ideamanagement.repository.EvidenceTextRepository;
+import com.ideamanagement.service.EvidenceBlobStore;
+import com.ideamanagement.service.EvidenceProcessingService;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class EvidenceProcessingServiceImpl implements EvidenceProcessingService {
+    private static final Set<String> TEXT_CONTENT_TYPES = Set.of(
+            "application/json", "application/xml", "application/csv", "application/x-yaml", "application/yaml");
+    private static final Set<String> TEXT_EXTENSIONS = Set.of(
+            "txt", "md", "csv", "log", "json", "xml", "yaml", "yml", "html", "htm");
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of(
+            "png", "jpg", "jpeg", "gif", "bmp");
+
+    private final EvidenceRepository evidenceRepository;
+    private final EvidenceTextRepository evidenceTextRepository;
+    private final EvidenceBlobStore evidenceBlobStore;
+    private final ThreadPoolTaskExecutor executor;
+    private final Path thumbnailDir;
+    private final int thumbnailSize;
+    private final int maxTextLength;
+    private final int maxPdfPages;
+    private final Duration sweepDelay;
+    private final int maxAttempts;
+    // Evidence already waiting in or running on the executor, so the sweeper does not queue it twice
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public EvidenceProcessingServiceImpl(EvidenceRepository evidenceRepository,
+                                         EvidenceTextRepository evidenceTextRepository,
+                                         EvidenceBlobStore evidenceBlobStore,
+                                         @Value("${evidence.storage.root:uploads/evidence}") String storageRoot,
+                                         @Value("${evidence.processing.threads:2}") int threads,
+                                         @Value("${evidence.processing.queue-capacity:500}") int queueCapacity,
+                                         @Value("${evidence.processing.thumbnail-size:256}") int thumbnailSize,
+                                         @Value("${evidence.processing.max-text-length:1000000}") int maxTextLength,
+                                         @Value("${evidence.processing.max-pdf-pages:200}") int maxPdfPages,
+                                         @Value("${evidence.processing.sweep-delay:5m}") Duration sweepDelay,
+                                         @Value("${evidence.processing.max-attempts:3}") int maxAttempts) {
+        this.evidenceRepository = evidenceRepository;
+        this.evidenceTextRepository = evidenceTextRepository;
+        this.evidenceBlobStore = evidenceBlobStore;
+        this.thumbnailDir = Paths.get(storageRoot).toAbsolutePath().normalize().resolve("thumbnails");
+        this.thumbnailSize = thumbnailSize;
+        this.maxTextLength = maxTextLength;
+        this.maxPdfPages = maxPdfPages;
+        this.sweepDelay = sweepDelay;
+        this.maxAttempts = maxAttempts;
+
+        // A small, bounded pool of low-priority threads: request threads only ever hand over an ID,
+        // and a full queue leaves the evidence PENDING for the sweeper instead of pushing back on uploads
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadPriority(Thread.MIN_PRIORITY);
+        this.executor.setThreadNamePrefix("evidence-processing-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(false);
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void enqueue(UUID evidenceId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The worker must see the committed row
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(evidenceId);
+                }
+            });
+        } else {
+            submit(evidenceId);
+        }
+    }
+
+    private boolean submit(UUID evidenceId) {
+        if (!inFlight.add(evidenceId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(evidenceId);
+                } catch (RuntimeException ex) {
+                    recordFailure(evidenceId, ex);
+                } finally {
+                    inFlight.remove(evidenceId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException ex) {
+            // Queue is full; the evidence stays PENDING and is picked up by the next sweep
+            inFlight.remove(evidenceId);
+            return false;
+        }
+    }
+
+    // Without this a file that always fails would stay PENDING and be re-queued by every sweep
+    private void recordFailure(UUID evidenceId, RuntimeException failure) {
+        System.err.println("Could not process evidence " + evidenceId + ": " + failure);
+        try {
+            Evidence evidence = evidenceRepository.findById(evidenceId).orElse(null);
+            if (evidence == null || evidence.getFilePath() == null) {
+                return;
+            }
+            int attempt = evidence.getProcessingAttempts() + 1;
+            if (evidenceRepository.recordProcessingFailure(evidenceId, evidence.getFilePath(), maxAttempts,
+                    Evidence.ProcessingStatus.PENDING, Evidence.ProcessingStatus.FAILED, LocalDateTime.now()) > 0
+                    && attempt >= maxAttempts) {
+                System.err.println("Giving up on processing evidence " + evidenceId + " after " + attempt + " failed attempts");
+            }
+        } catch (RuntimeException ex) {
+            // Most likely the database is unreachable; the row stays PENDING and the sweeper retries it later
+            System.err.println("Could not record the failed processing of evidence " + evidenceId + ": " + ex.getMessage());
+        }
+    }
+
+    // Re-queues evidence left PENDING by a full queue or a restart, only as far as the queue has room
+    @Scheduled(fixedDelayString = "${evidence.processing.sweep-interval-ms:60000}")
+    public void resubmitPending() {
+        int capacity = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<UUID> pending = evidenceRepository.findIdsByProcessingStatus(Evidence.ProcessingStatus.PENDING,
+                LocalDateTime.now().minus(sweepDelay), PageRequest.of(0, capacity));
+        for (UUID evidenceId : pending) {
+            if (!submit(evidenceId)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void process(UUID evidenceId) {
+        Evidence evidence = evidenceRepository.findById(evidenceId).orElse(null);
+        if (evidence == null || evidence.getFilePath() == null) {
+            return;
+        }
+        Path file = Paths.get(evidence.getFilePath());
+
+        Evidence.ProcessingStatus checksumStatus = verifyChecksum(evidence, file);
+        Path thumbnail = thumbnailDir.resolve(evidenceId + ".jpg");
+        Evidence.ProcessingStatus thumbnailStatus = isImage(evidence)
+                ? createThumbnail(file, thumbnail)
+                : Evidence.ProcessingStatus.SKIPPED;
+        Evidence.ProcessingStatus textStatus = Evidence.ProcessingStatus.SKIPPED;
+        if (isPdf(evidence) || isText(evidence)) {
+            textStatus = extractText(evidence, file);
+        }
+
+        // If the file was replaced meanwhile nothing is recorded; the replacement was queued on its own
+        // and overwrites the thumbnail and text when it runs
+        evidenceRepository.updateProcessingResult(evidenceId, evidence.getFilePath(),
+                Evidence.ProcessingStatus.DONE, checksumStatus, thumbnailStatus, textStatus,
+                thumbnailStatus == Evidence.ProcessingStatus.DONE ? thumbnail.toString() : null,
+                LocalDateTime.now());
+    }
+
+    private Evidence.ProcessingStatus verifyChecksum(Evidence evidence, Path file) {
+        // Legacy files predate the blob store and have no recorded hash to check against
+        if (evidence.getContentHash() == null) {
+            return Evidence.ProcessingStatus.SKIPPED;
+        }
+        try {
+            if (evidence.getContentHash().equals(evidenceBlobStore.hash(file))) {
+                return Evidence.ProcessingStatus.DONE;
+            }
+            System.err.println("Checksum mismatch for evidence " + evidence.getId() + ": " + file);
+        } catch (IOException ex) {
+            System.err.println("Could not verify checksum for evidence " + evidence.getId() + ": " + ex.getMessage());
+        }
+        return Evidence.ProcessingStatus.FAILED;
+    }
+
+    private Evidence.ProcessingStatus createThumbnail(Path file, Path thumbnail) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                // Not a format ImageIO can decode (e.g. SVG or WebP)
+                return Evidence.ProcessingStatus.SKIPPED;
+            }
+            ImageReader reader = readers.next();
+            BufferedImage source;
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // Subsample while decoding so a large photo is never fully materialised on the heap;
+                // keep about twice the target resolution for a smooth final downscale
+                int step = Math.max(1, Math.max(width, height) / (thumbnailSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+
+            double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+            int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+            BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, targetWidth, targetHeight);
+                graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            Files.createDirectories(thumbnailDir);
+            Path temp = Files.createTempFile(thumbnailDir, "thumb-", ".tmp");
+            try {
+                if (!ImageIO.write(target, "jpg", temp.toFile())) {
+                    return Evidence.ProcessingStatus.FAILED;
+                }
+                Files.move(temp, thumbnail, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return Evidence.ProcessingStatus.DONE;
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Could not create thumbnail for " + file + ": " + ex.getMessage());
+            return Evidence.ProcessingStatus.FAILED;
+        }
+    }
+
+    private Evidence.ProcessingStatus extractText(Evidence evidence, Path file) {
+        try {
+            String text = isPdf(evidence) ? readPdf(file) : readText(file);
+            evidenceTextRepository.save(new EvidenceText(evidence.getId(), text));
+            return Evidence.ProcessingStatus.DONE;
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Could not extract text for evidence " + evidence.getId() + ": " + ex.getMessage());
+            return Evidence.ProcessingStatus.FAILED;
+        }
+    }
+
+    private String readPdf(Path file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(maxPdfPages);
+            return truncate(stripper.getText(document));
+        }
+    }
+
+    private String readText(Path file) throws IOException {
+        // Read at most maxTextLength characters; undecodable bytes become replacement characters
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE))) {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while (text.length() < maxTextLength && (read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return truncate(text.toString());
+        }
+    }
+
+    private String truncate(String text) {
+        // NUL is valid in a file but not worth indexing
+        String cleaned = text.replace('\u0000', ' ');
+        return cleaned.length() > maxTextLength ? cleaned.substring(0, maxTextLength) : cleaned;
+    }
+
+    private boolean isImage(Evidence evidence) {
+        return evidence.getType() == Evidence.EvidenceType.IMAGE
+                || contentType(evidence).startsWith("image/")
+                || IMAGE_EXTENSIONS.contains(extension(evidence));
+    }
+
+    private boolean isPdf(Evidence evidence) {
+        return contentType(evidence).equals("application/pdf") || extension(evidence).equals("pdf");
+    }
+
+    private boolean isText(Evidence evidence) {
+        String contentType = contentType(evidence);
+        return contentType.startsWith("text/")
+                || TEXT_CONTENT_TYPES.contains(contentType)
+                || TEXT_EXTENSIONS.contains(extension(evidence));
+    }
+
+    private String contentType(Evidence evidence) {
+        if (evidence.getContentType() == null) {
+            return "";
+        }
+        // Drop parameters such as "; charset=utf-8"
+        int separator = evidence.getContentType().indexOf(';');
+        String contentType = separator >= 0 ? evidence.getContentType().substring(0, separator) : evidence.getContentType();
+        return contentType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String extension(Evidence evidence) {
+        String fileName = evidence.getFileName();
+        int dot = fileName != null ? fileName.lastIndexOf('.') : -1;
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -1,6 +1,11 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
+import com.ideamanagement.dto.EvidenceContentDto;
 import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceFilterDto;
+import com.ideamanagement.dto.EvidenceSummaryDto;
+import com.ideamanagement.dto.PageCursor;
 import com.ideamanagement.entity.Evidence;
 import com.ideamanagement.entity.Employee;
 import com.ideamanagement.entity.Idea;
@@ -9,25 +14,41 @@ import com.ideamanagement.entity.User;
 import com.ideamanagement.exception.DuplicateResourceException;
 import com.ideamanagement.exception.ResourceNotFoundException;
 import com.ideamanagement.repository.EvidenceRepository;
+import com.ideamanagement.repository.EvidenceTextRepository;
 import com.ideamanagement.repository.EmployeeRepository;
 import com.ideamanagement.repository.IdeaRepository;
 import com.ideamanagement.repository.ProjectRepository;
 import com.ideamanagement.repository.UserRepository;
+import com.ideamanagement.service.EvidenceBlobStore;
+import com.ideamanagement.service.EvidenceProcessingService;
 import com.ideamanagement.service.EvidenceService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,19 +56,50 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class EvidenceServiceImpl implements EvidenceService {
+    // The deprecated unpaginated lists return at most this many of the newest items; /filter pages through the rest
+    static final int LEGACY_LIST_LIMIT = 1000;
 
     private final EvidenceRepository evidenceRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final IdeaRepository ideaRepository;
     private final EmployeeRepository employeeRepository;
-
-    // Define a directory for storing uploaded files
-    // You might want to make this configurable in application.properties
-    private final String uploadDir = "uploads/evidence";
+    private final EvidenceBlobStore evidenceBlobStore;
+    private final EvidenceProcessingService evidenceProcessingService;
+    private final EvidenceTextRepository evidenceTextRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public EvidenceDto createEvidence(EvidenceDto evidenceDto) {
+        Evidence evidence = newEvidence(evidenceDto);
+
+        // Handle file upload if type is FILE and a file is provided
+        if (evidenceDto.getType() == Evidence.EvidenceType.FILE && evidenceDto.getFileName() != null) {
+            if (evidenceDto.getFileData() == null) {
+                throw new IllegalArgumentException("File data is missing for evidence type FILE.");
+            }
+            try {
+                storeFile(evidence, evidenceDto);
+            } catch (IOException ex) {
+                throw new RuntimeException("Could not store file " + evidenceDto.getFileName() + ". Please try again!", ex);
+            }
+        }
+
+        Evidence savedEvidence = evidenceRepository.save(evidence);
+        queueProcessing(savedEvidence);
+        return convertToDto(savedEvidence);
+    }
+
+    @Override
+    public EvidenceDto createEvidence(EvidenceDto evidenceDto, EvidenceBlobStore.StoredBlob blob) {
+        Evidence evidence = newEvidence(evidenceDto);
+        applyBlob(evidence, blob, evidenceDto.getFileName(), evidenceDto.getContentType());
+        Evidence savedEvidence = evidenceRepository.save(evidence);
+        queueProcessing(savedEvidence);
+        return convertToDto(savedEvidence);
+    }
+
+    private Evidence newEvidence(EvidenceDto evidenceDto) {
         // Basic validation for required fields from DTO
         if (!StringUtils.hasText(evidenceDto.getTitle())) {
             throw new IllegalArgumentException("Evidence title is required.");
@@ -92,83 +144,176 @@ public class EvidenceServiceImpl implements EvidenceService {
         evidence.setIdea(idea);
         evidence.setEmployee(employee);
         evidence.setTags(evidenceDto.getTags());
+        return evidence;
+    }
 
-        // Handle file upload if type is FILE and a file is provided
-        if (evidenceDto.getType() == Evidence.EvidenceType.FILE && evidenceDto.getFileName() != null) {
-            if (evidenceDto.getFileData() == null) {
-                throw new IllegalArgumentException("File data is missing for evidence type FILE.");
-            }
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            try {
-                Files.createDirectories(uploadPath);
-                String uniqueFileName = UUID.randomUUID().toString() + "_" + StringUtils.cleanPath(evidenceDto.getFileName());
-                Path targetLocation = uploadPath.resolve(uniqueFileName);
-                Files.copy(evidenceDto.getFileData().getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-                evidence.setFileName(uniqueFileName);
-                evidence.setFilePath(targetLocation.toString());
-                evidence.setContentType(evidenceDto.getFileData().getContentType());
-                evidence.setFileSize(evidenceDto.getFileData().getSize());
-            } catch (IOException ex) {
-                throw new RuntimeException("Could not store file " + evidenceDto.getFileName() + ". Please try again!", ex);
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public EvidenceDto getEvidence(UUID id) {
+        Evidence evidence = evidenceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evidence not found with ID: " + id));
+        return convertToDto(evidence);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EvidenceContentDto getEvidenceContent(UUID id) {
+        Evidence evidence = evidenceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evidence not found with ID: " + id));
+        if (evidence.getFilePath() == null) {
+            throw new ResourceNotFoundException("Evidence has no stored file: " + id);
         }
 
-        Evidence savedEvidence = evidenceRepository.save(evidence);
-        return convertToDto(savedEvidence);
+        Path filePath = Paths.get(evidence.getFilePath());
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            // Content hash is a strong validator; legacy files fall back to size and mtime.
+            // Neither requires reading the file to answer If-None-Match
+            String eTag = evidence.getContentHash() != null
+                    ? evidence.getContentHash()
+                    : Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+            String contentType = evidence.getContentType() != null ? evidence.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            return new EvidenceContentDto(
+                    new FileSystemResource(filePath),
+                    originalFileName(evidence.getFileName()),
+                    contentType,
+                    eTag,
+                    attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException("Stored file not found for evidence: " + id);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read file for evidence " + id, ex);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public EvidenceDto getEvidence(UUID id) {
+    public EvidenceContentDto getEvidenceThumbnail(UUID id) {
         Evidence evidence = evidenceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Evidence not found with ID: " + id));
-        return convertToDto(evidence);
+        if (evidence.getThumbnailStatus() != Evidence.ProcessingStatus.DONE || evidence.getThumbnailPath() == null) {
+            throw new ResourceNotFoundException("Evidence has no thumbnail: " + id);
+        }
+
+        Path thumbnailPath = Paths.get(evidence.getThumbnailPath());
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(thumbnailPath, BasicFileAttributes.class);
+            String eTag = Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+            return new EvidenceContentDto(
+                    new FileSystemResource(thumbnailPath),
+                    "thumbnail.jpg",
+                    MediaType.IMAGE_JPEG_VALUE,
+                    eTag,
+                    attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException("Thumbnail not found for evidence: " + id);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read thumbnail for evidence " + id, ex);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EvidenceDto> getAllEvidence(Pageable pageable) {
-        return evidenceRepository.findAll(pageable)
-                .map(this::convertToDto);
+        return toDtoPage(evidenceRepository.findAllSummaries(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EvidenceDto> getEvidenceByProject(UUID projectId, Pageable pageable) {
-        return evidenceRepository.findByProjectId(projectId, pageable)
-                .map(this::convertToDto);
+        return toDtoPage(evidenceRepository.findSummariesByProjectId(projectId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPageDto<EvidenceDto> filterEvidence(UUID projectId, EvidenceFilterDto filter, String cursor, Integer limit) {
+        int pageLimit = KeysetPagination.checkLimit(limit);
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+
+        // Fetch one extra row to learn whether another page follows, instead of counting
+        List<EvidenceSummaryDto> rows = filterSummaries(projectId, filter, after, Limit.of(pageLimit + 1));
+        boolean hasNext = rows.size() > pageLimit;
+        if (hasNext) {
+            rows = rows.subList(0, pageLimit);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            EvidenceSummaryDto last = rows.get(rows.size() - 1);
+            nextCursor = new PageCursor(last.getUploadedAt(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(toDtos(rows), nextCursor, hasNext);
+    }
+
+    private List<EvidenceSummaryDto> filterSummaries(UUID projectId, EvidenceFilterDto filter, PageCursor after, Limit limit) {
+        LocalDateTime cursorAt = after != null ? after.getTimestamp() : null;
+        UUID cursorId = after != null ? after.getId() : null;
+        String category = StringUtils.hasText(filter.getCategory()) ? filter.getCategory() : null;
+        if (StringUtils.hasText(filter.getTag())) {
+            return evidenceRepository.filterSummariesByTag(projectId, filter.getTag(), category, filter.getStatus(),
+                    filter.getType(), filter.getEmployeeId(), cursorAt, cursorId, limit);
+        }
+        return evidenceRepository.filterSummaries(projectId, category, filter.getStatus(),
+                filter.getType(), filter.getEmployeeId(), cursorAt, cursorId, limit);
+    }
+
+    @Override
+    @Deprecated
+    @Transactional(readOnly = true)
     public List<EvidenceDto> getEvidenceByProjectAndCategory(UUID projectId, String category) {
-        return evidenceRepository.findByProjectIdAndCategory(projectId, category).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        EvidenceFilterDto filter = new EvidenceFilterDto();
+        filter.setCategory(category);
+        return toDtos(filterSummaries(projectId, filter, null, Limit.of(LEGACY_LIST_LIMIT)));
     }
 
     @Override
+    @Deprecated
     @Transactional(readOnly = true)
     public List<EvidenceDto> getEvidenceByProjectAndTag(UUID projectId, String tag) {
-        return evidenceRepository.findByProjectIdAndTagsContaining(projectId, tag).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        EvidenceFilterDto filter = new EvidenceFilterDto();
+        filter.setTag(tag);
+        return toDtos(filterSummaries(projectId, filter, null, Limit.of(LEGACY_LIST_LIMIT)));
     }
 
     @Override
+    @Deprecated
     @Transactional(readOnly = true)
     public List<EvidenceDto> getEvidenceByProjectAndStatus(UUID projectId, Evidence.EvidenceStatus status) {
-        return evidenceRepository.findByProjectIdAndStatus(projectId, status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        EvidenceFilterDto filter = new EvidenceFilterDto();
+        filter.setStatus(status);
+        return toDtos(filterSummaries(projectId, filter, null, Limit.of(LEGACY_LIST_LIMIT)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EvidenceDto> getEvidenceByEmployee(UUID employeeId, Pageable pageable) {
-        return evidenceRepository.findByEmployeeId(employeeId, pageable)
-                .map(this::convertToDto);
+        return toDtoPage(evidenceRepository.findSummariesByEmployeeId(employeeId, pageable));
+    }
+
+    // One query for the rows (plus the count, when needed) and one for all of the page's tags,
+    // regardless of page size
+    private Page<EvidenceDto> toDtoPage(Page<EvidenceSummaryDto> page) {
+        Map<UUID, Set<String>> tagsById = loadTags(page.getContent());
+        return page.map(summary -> convertToDto(summary, tagsById.getOrDefault(summary.getId(), new HashSet<>())));
+    }
+
+    private List<EvidenceDto> toDtos(List<EvidenceSummaryDto> summaries) {
+        Map<UUID, Set<String>> tagsById = loadTags(summaries);
+        return summaries.stream()
+                .map(summary -> convertToDto(summary, tagsById.getOrDefault(summary.getId(), new HashSet<>())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<UUID, Set<String>> loadTags(List<EvidenceSummaryDto> summaries) {
+        Map<UUID, Set<String>> tagsById = new HashMap<>();
+        if (!summaries.isEmpty()) {
+            List<UUID> ids = summaries.stream()
+                    .map(EvidenceSummaryDto::getId)
+                    .collect(Collectors.toList());
+            for (Object[] row : evidenceRepository.findTagsByEvidenceIds(ids)) {
+                tagsById.computeIfAbsent((UUID) row[0], id -> new HashSet<>()).add((String) row[1]);
+            }
+        }
+        return tagsById;
     }
 
     @Override
@@ -208,30 +353,34 @@ public class EvidenceServiceImpl implements EvidenceService {
 
         // File-related updates (if a file is part of the update or URL changes)
         if (evidenceDto.getType() == Evidence.EvidenceType.FILE && evidenceDto.getFileName() != null) {
-            // Simplified: for a real app, you'd handle file replacement/deletion
-            // For now, if a new file comes, it's just set. Old file might remain.
+            // The previous blob is released once no other evidence references it
             if (evidenceDto.getFileData() != null) {
-                Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+                String previousHash = existingEvidence.getContentHash();
                 try {
-                    Files.createDirectories(uploadPath);
-                    String uniqueFileName = UUID.randomUUID().toString() + "_" + StringUtils.cleanPath(evidenceDto.getFileName());
-                    Path targetLocation = uploadPath.resolve(uniqueFileName);
-                    Files.copy(evidenceDto.getFileData().getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-                    existingEvidence.setFileName(uniqueFileName);
-                    existingEvidence.setFilePath(targetLocation.toString());
-                    existingEvidence.setContentType(evidenceDto.getFileData().getContentType());
-                    existingEvidence.setFileSize(evidenceDto.getFileData().getSize());
+                    storeFile(existingEvidence, evidenceDto);
                 } catch (IOException ex) {
                     throw new RuntimeException("Could not update file " + evidenceDto.getFileName() + ". Please try again!", ex);
                 }
+                if (previousHash != null && !previousHash.equals(existingEvidence.getContentHash())) {
+                    releaseBlobAfterCommit(previousHash);
+                }
+                queueProcessing(existingEvidence);
             }
         } else if (existingEvidence.getType() == Evidence.EvidenceType.FILE && evidenceDto.getType() != Evidence.EvidenceType.FILE) {
             // If changing from FILE to another type, clear file-related data (simplified)
+            if (existingEvidence.getContentHash() != null) {
+                releaseBlobAfterCommit(existingEvidence.getContentHash());
+            }
             existingEvidence.setFileName(null);
             existingEvidence.setFilePath(null);
             existingEvidence.setContentType(null);
             existingEvidence.setFileSize(null);
+            existingEvidence.setContentHash(null);
+            existingEvidence.setProcessingStatus(null);
+            existingEvidence.setChecksumStatus(null);
+            existingEvidence.setThumbnailStatus(null);
+            existingEvidence.setTextStatus(null);
+            deleteDerivedFiles(existingEvidence);
         }
 
         Evidence updatedEvidence = evidenceRepository.save(existingEvidence);
@@ -252,7 +401,10 @@ public class EvidenceServiceImpl implements EvidenceService {
         Evidence evidence = evidenceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Evidence not found with ID: " + id));
         // Optionally delete the file from the file system as well
-        if (evidence.getFilePath() != null) {
+        if (evidence.getContentHash() != null) {
+            // Shared blobs are only removed once no other evidence row references them
+            releaseBlobAfterCommit(evidence.getContentHash());
+        } else if (evidence.getFilePath() != null) {
             try {
                 Files.deleteIfExists(Paths.get(evidence.getFilePath()));
             } catch (IOException e) {
@@ -260,9 +412,103 @@ public class EvidenceServiceImpl implements EvidenceService {
                 System.err.println("Could not delete file from file system: " + evidence.getFilePath());
             }
         }
+        deleteDerivedFiles(evidence);
         evidenceRepository.deleteById(id);
     }
 
+    private void storeFile(Evidence evidence, EvidenceDto evidenceDto) throws IOException {
+        EvidenceBlobStore.StoredBlob blob;
+        try (InputStream content = evidenceDto.getFileData().getInputStream()) {
+            blob = evidenceBlobStore.store(content);
+        }
+        releaseAfterCompletion(blob);
+        // A rate over this counter is the upload throughput; chunked uploads count their chunks instead
+        meterRegistry.counter("evidence.upload.bytes", "mode", "single").increment(blob.getSize());
+        applyBlob(evidence, blob, evidenceDto.getFileName(), evidenceDto.getFileData().getContentType());
+    }
+
+    private void applyBlob(Evidence evidence, EvidenceBlobStore.StoredBlob blob, String fileName, String contentType) {
+        evidence.setFileName(StringUtils.cleanPath(fileName));
+        evidence.setFilePath(blob.getPath().toString());
+        evidence.setContentType(contentType);
+        evidence.setFileSize(blob.getSize());
+        evidence.setContentHash(blob.getContentHash());
+        // Thumbnails, text and checksum verification are produced in the background after commit
+        evidence.setProcessingStatus(Evidence.ProcessingStatus.PENDING);
+        evidence.setChecksumStatus(Evidence.ProcessingStatus.PENDING);
+        evidence.setThumbnailStatus(Evidence.ProcessingStatus.PENDING);
+        evidence.setTextStatus(Evidence.ProcessingStatus.PENDING);
+        evidence.setProcessingAttempts(0);
+    }
+
+    private void queueProcessing(Evidence evidence) {
+        if (evidence.getProcessingStatus() == Evidence.ProcessingStatus.PENDING) {
+            evidenceProcessingService.enqueue(evidence.getId());
+        }
+    }
+
+    // Thumbnail and extracted text belong to a single evidence row, unlike the shared blob
+    private void deleteDerivedFiles(Evidence evidence) {
+        if (evidence.getThumbnailPath() != null) {
+            try {
+                Files.deleteIfExists(Paths.get(evidence.getThumbnailPath()));
+            } catch (IOException e) {
+                System.err.println("Could not delete thumbnail from file system: " + evidence.getThumbnailPath());
+            }
+            evidence.setThumbnailPath(null);
+        }
+        evidenceTextRepository.deleteById(evidence.getId());
+    }
+
+    // Registered right after the blob is stored, so it runs before the afterCommit releases of older blobs below,
+    // which take guards of their own
+    private void releaseAfterCompletion(EvidenceBlobStore.StoredBlob blob) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            blob.release();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                blob.release();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                blob.release();
+            }
+        });
+    }
+
+    private void releaseBlobAfterCommit(String contentHash) {
+        Runnable release = () -> {
+            try {
+                evidenceBlobStore.deleteIfUnreferenced(contentHash, () -> evidenceRepository.countByContentHash(contentHash) == 0);
+            } catch (IOException e) {
+                System.err.println("Could not delete blob from file system: " + contentHash);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    // Legacy stored names are "<uuid>_<original name>"; strip the prefix for downloads
+    private String originalFileName(String storedFileName) {
+        if (storedFileName == null) {
+            return null;
+        }
+        int separator = storedFileName.indexOf('_');
+        return separator == 36 ? storedFileName.substring(separator + 1) : storedFileName;
+    }
+
     private EvidenceDto convertToDto(Evidence evidence) {
         EvidenceDto dto = new EvidenceDto();
         dto.setId(evidence.getId());
@@ -275,10 +521,17 @@ public class EvidenceServiceImpl implements EvidenceService {
         dto.setFilePath(evidence.getFilePath());
         dto.setContentType(evidence.getContentType());
         dto.setFileSize(evidence.getFileSize());
+        dto.setContentHash(evidence.getContentHash());
+        dto.setProcessingStatus(evidence.getProcessingStatus());
+        dto.setChecksumStatus(evidence.getChecksumStatus());
+        dto.setThumbnailStatus(evidence.getThumbnailStatus());
+        dto.setTextStatus(evidence.getTextStatus());
+        dto.setThumbnailUrl(thumbnailUrl(evidence.getId(), evidence.getThumbnailStatus()));
         dto.setUrl(evidence.getUrl());
         dto.setUploadedAt(evidence.getUploadedAt());
         dto.setUpdatedAt(evidence.getUpdatedAt());
-        dto.setTags(evidence.getTags());
+        // Copy so the DTO does not hold on to the lazy persistent collection
+        dto.setTags(evidence.getTags() != null ? new HashSet<>(evidence.getTags()) : null);
         
         // Handle lazy-loaded relationships safely
         if (evidence.getIdea() != null) {
@@ -297,6 +550,40 @@ public class EvidenceServiceImpl implements EvidenceService {
         return dto;
     }
 
+    private EvidenceDto convertToDto(EvidenceSummaryDto summary, Set<String> tags) {
+        EvidenceDto dto = new EvidenceDto();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setType(summary.getType());
+        dto.setCategory(summary.getCategory());
+        dto.setStatus(summary.getStatus());
+        dto.setFileName(summary.getFileName());
+        dto.setFilePath(summary.getFilePath());
+        dto.setContentType(summary.getContentType());
+        dto.setFileSize(summary.getFileSize());
+        dto.setContentHash(summary.getContentHash());
+        dto.setProcessingStatus(summary.getProcessingStatus());
+        dto.setChecksumStatus(summary.getChecksumStatus());
+        dto.setThumbnailStatus(summary.getThumbnailStatus());
+        dto.setTextStatus(summary.getTextStatus());
+        dto.setThumbnailUrl(thumbnailUrl(summary.getId(), summary.getThumbnailStatus()));
+        dto.setUrl(summary.getUrl());
+        dto.setUploadedAt(summary.getUploadedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        dto.setTags(tags);
+        dto.setIdeaId(summary.getIdeaId());
+        dto.setProjectId(summary.getProjectId());
+        dto.setUploadedBy(summary.getUploadedBy());
+        dto.setEmployeeId(summary.getEmployeeId());
+        return dto;
+    }
+
+    // Lists link the small thumbnail rather than the original image
+    private String thumbnailUrl(UUID id, Evidence.ProcessingStatus thumbnailStatus) {
+        return thumbnailStatus == Evidence.ProcessingStatus.DONE ? "/api/evidence/" + id + "/thumbnail" : null;
+    }
+
     // Helper method to convert DTO to Entity for creation/update
     private Evidence convertToEntity(EvidenceDto dto) {
         Evidence evidence = new Evidence();
@@ -0,0 +1,300 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceUploadDto;
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.EvidenceUpload;
+import com.ideamanagement.exception.ResourceNotFoundException;
+import com.ideamanagement.repository.EvidenceRepository;
+import com.ideamanagement.repository.EvidenceUploadRepository;
+import com.ideamanagement.repository.ProjectRepository;
+import com.ideamanagement.repository.UserRepository;
+import com.ideamanagement.service.EvidenceBlobStore;
+import com.ideamanagement.service.EvidenceService;
+import com.ideamanagement.service.EvidenceUploadService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.UUID;
+
+@Service
+public class EvidenceUploadServiceImpl implements EvidenceUploadService {
+    private final EvidenceUploadRepository evidenceUploadRepository;
+    private final EvidenceRepository evidenceRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final EvidenceService evidenceService;
+    private final EvidenceBlobStore evidenceBlobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Path partialDir;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration expiry;
+    private final Counter uploadedBytes;
+
+    public EvidenceUploadServiceImpl(EvidenceUploadRepository evidenceUploadRepository,
+                                     EvidenceRepository evidenceRepository,
+                                     ProjectRepository projectRepository,
+                                     UserRepository userRepository,
+                                     EvidenceService evidenceService,
+                                     EvidenceBlobStore evidenceBlobStore,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${evidence.storage.root:uploads/evidence}") String storageRoot,
+                                     @Value("${evidence.upload.max-file-size:1GB}") DataSize maxFileSize,
+                                     @Value("${evidence.upload.max-chunk-size:16MB}") DataSize maxChunkSize,
+                                     @Value("${evidence.upload.expiry:24h}") Duration expiry,
+                                     MeterRegistry meterRegistry) {
+        this.evidenceUploadRepository = evidenceUploadRepository;
+        this.evidenceRepository = evidenceRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.evidenceService = evidenceService;
+        this.evidenceBlobStore = evidenceBlobStore;
+        this.transactionTemplate = transactionTemplate;
+        this.partialDir = Paths.get(storageRoot).toAbsolutePath().normalize().resolve("partial");
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.expiry = expiry;
+        this.uploadedBytes = meterRegistry.counter("evidence.upload.bytes", "mode", "chunked");
+    }
+
+    @Override
+    public EvidenceUploadDto initUpload(EvidenceUploadDto uploadDto) {
+        if (!StringUtils.hasText(uploadDto.getTitle())) {
+            throw new IllegalArgumentException("Evidence title is required.");
+        }
+        if (!StringUtils.hasText(uploadDto.getCategory())) {
+            throw new IllegalArgumentException("Evidence category is required.");
+        }
+        if (!StringUtils.hasText(uploadDto.getFileName())) {
+            throw new IllegalArgumentException("File name is required.");
+        }
+        if (uploadDto.getTotalSize() == null || uploadDto.getTotalSize() <= 0) {
+            throw new IllegalArgumentException("Total size must be greater than zero.");
+        }
+        if (uploadDto.getTotalSize() > maxFileSize) {
+            throw new IllegalArgumentException("File exceeds the maximum upload size of " + maxFileSize + " bytes.");
+        }
+        if (uploadDto.getProjectId() == null || !projectRepository.existsById(uploadDto.getProjectId())) {
+            throw new ResourceNotFoundException("Project not found with ID: " + uploadDto.getProjectId());
+        }
+        if (uploadDto.getUploadedBy() == null || !userRepository.existsById(uploadDto.getUploadedBy())) {
+            throw new ResourceNotFoundException("User not found with ID: " + uploadDto.getUploadedBy());
+        }
+
+        EvidenceUpload upload = new EvidenceUpload();
+        upload.setTitle(uploadDto.getTitle());
+        upload.setDescription(uploadDto.getDescription());
+        upload.setCategory(uploadDto.getCategory());
+        upload.setProjectId(uploadDto.getProjectId());
+        upload.setUploadedBy(uploadDto.getUploadedBy());
+        upload.setIdeaId(uploadDto.getIdeaId());
+        upload.setEmployeeId(uploadDto.getEmployeeId());
+        upload.setTags(uploadDto.getTags() != null ? new HashSet<>(uploadDto.getTags()) : new HashSet<>());
+        upload.setFileName(StringUtils.cleanPath(uploadDto.getFileName()));
+        upload.setContentType(uploadDto.getContentType());
+        upload.setTotalSize(uploadDto.getTotalSize());
+        upload.setReceivedBytes(0);
+
+        return convertToDto(evidenceUploadRepository.save(upload));
+    }
+
+    @Override
+    public EvidenceUploadDto getUpload(UUID uploadId) {
+        return convertToDto(findUpload(uploadId));
+    }
+
+    // Deliberately not transactional: the chunk is streamed from the request straight into the part file
+    // without holding a connection, and the offset is then advanced with a single conditional update.
+    @Override
+    public EvidenceUploadDto writeChunk(UUID uploadId, long offset, InputStream content) {
+        EvidenceUpload upload = findUpload(uploadId);
+        long received = upload.getReceivedBytes();
+        if (offset < 0 || offset > received) {
+            throw new IllegalStateException("Chunk offset " + offset + " does not match received bytes " + received + " for upload " + uploadId);
+        }
+
+        long limit = Math.min(upload.getTotalSize() - offset, maxChunkSize);
+        long written;
+        try {
+            Files.createDirectories(partialDir);
+            try (FileChannel channel = FileChannel.open(partPath(uploadId), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(content)) {
+                // Positional write: a retried chunk simply overwrites the bytes it already wrote
+                written = channel.transferFrom(source, offset, limit);
+                if (content.read() != -1) {
+                    throw new IllegalArgumentException("Chunk exceeds the declared total size or the maximum chunk size of " + maxChunkSize + " bytes.");
+                }
+                // Only acknowledge bytes that are durable, so a crash never resumes past lost data
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not write chunk for upload " + uploadId + ". Please resume from offset " + received, ex);
+        }
+
+        long newReceived = Math.max(received, offset + written);
+        if (newReceived != received
+                && evidenceUploadRepository.advanceReceivedBytes(uploadId, received, newReceived, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Upload " + uploadId + " was modified concurrently. Re-read its status and resume.");
+        }
+        uploadedBytes.increment(written);
+        upload.setReceivedBytes(newReceived);
+        return convertToDto(upload);
+    }
+
+    @Override
+    public EvidenceDto commitUpload(UUID uploadId) {
+        EvidenceUpload upload = findUpload(uploadId);
+        if (upload.getReceivedBytes() != upload.getTotalSize()) {
+            throw new IllegalStateException("Upload " + uploadId + " is incomplete: received " + upload.getReceivedBytes()
+                    + " of " + upload.getTotalSize() + " bytes.");
+        }
+
+        // A previous commit attempt may already have stored the file
+        EvidenceBlobStore.StoredBlob blob = upload.getContentHash() != null
+                ? evidenceBlobStore.retain(upload.getContentHash(), upload.getTotalSize()) : null;
+        if (blob == null) {
+            Path part = partPath(uploadId);
+            try {
+                // Drop any tail left behind by an interrupted chunk beyond the acknowledged offset
+                try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+                    channel.truncate(upload.getTotalSize());
+                }
+                blob = evidenceBlobStore.store(part);
+            } catch (NoSuchFileException ex) {
+                throw new ResourceNotFoundException("Upload data not found for upload " + uploadId);
+            } catch (IOException ex) {
+                throw new RuntimeException("Could not store file for upload " + uploadId + ". Please try again!", ex);
+            }
+        }
+
+        try {
+            if (!blob.getContentHash().equals(upload.getContentHash())) {
+                if (evidenceUploadRepository.recordContentHash(uploadId, blob.getContentHash()) == 0) {
+                    throw new ResourceNotFoundException("Upload not found with ID: " + uploadId);
+                }
+                upload.setContentHash(blob.getContentHash());
+            }
+            return createEvidence(upload, blob);
+        } catch (RuntimeException ex) {
+            discardIfAbandoned(uploadId, blob);
+            throw ex;
+        } finally {
+            // The evidence row is committed by now, or was never written
+            blob.release();
+        }
+    }
+
+    // An abort that read the upload before its content hash was recorded has already removed the row without
+    // touching the blob, so nothing else would delete it. An upload that still exists keeps its blob for a retry
+    private void discardIfAbandoned(UUID uploadId, EvidenceBlobStore.StoredBlob blob) {
+        try {
+            evidenceBlobStore.deleteIfUnreferenced(blob.getContentHash(),
+                    () -> !evidenceUploadRepository.existsById(uploadId)
+                            && evidenceRepository.countByContentHash(blob.getContentHash()) == 0);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not delete the file of abandoned upload " + uploadId + ": " + e.getMessage());
+        }
+    }
+
+    private EvidenceDto createEvidence(EvidenceUpload upload, EvidenceBlobStore.StoredBlob blob) {
+        EvidenceDto evidenceDto = new EvidenceDto();
+        evidenceDto.setTitle(upload.getTitle());
+        evidenceDto.setDescription(upload.getDescription());
+        evidenceDto.setType(Evidence.EvidenceType.FILE);
+        evidenceDto.setCategory(upload.getCategory());
+        evidenceDto.setProjectId(upload.getProjectId());
+        evidenceDto.setUploadedBy(upload.getUploadedBy());
+        evidenceDto.setIdeaId(upload.getIdeaId());
+        evidenceDto.setEmployeeId(upload.getEmployeeId());
+        evidenceDto.setTags(new HashSet<>(upload.getTags()));
+        evidenceDto.setFileName(upload.getFileName());
+        evidenceDto.setContentType(upload.getContentType());
+
+        // Claiming the upload row and creating the evidence commit together: a second commit of the same upload
+        // waits for the row lock and then finds the upload gone
+        return transactionTemplate.execute(status -> {
+            EvidenceUpload claimed = evidenceUploadRepository.findByIdForUpdate(upload.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Upload not found with ID: " + upload.getId()));
+            EvidenceDto created = evidenceService.createEvidence(evidenceDto, blob);
+            evidenceUploadRepository.delete(claimed);
+            return created;
+        });
+    }
+
+    @Override
+    public void abortUpload(UUID uploadId) {
+        removeUpload(findUpload(uploadId));
+    }
+
+    @Scheduled(fixedDelayString = "${evidence.upload.cleanup-interval-ms:3600000}")
+    public void removeExpiredUploads() {
+        for (EvidenceUpload upload : evidenceUploadRepository.findByUpdatedAtBefore(LocalDateTime.now().minus(expiry))) {
+            removeUpload(upload);
+        }
+    }
+
+    private EvidenceUpload findUpload(UUID uploadId) {
+        return evidenceUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload not found with ID: " + uploadId));
+    }
+
+    private Path partPath(UUID uploadId) {
+        return partialDir.resolve(uploadId + ".part");
+    }
+
+    private void removeUpload(EvidenceUpload upload) {
+        try {
+            Files.deleteIfExists(partPath(upload.getId()));
+            // A blob left by a failed commit is only removed if no evidence ended up referencing it
+            if (upload.getContentHash() != null) {
+                evidenceBlobStore.deleteIfUnreferenced(upload.getContentHash(),
+                        () -> evidenceRepository.countByContentHash(upload.getContentHash()) == 0);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not delete upload data from file system: " + partPath(upload.getId()));
+        }
+        // Claimed under the same row lock as a commit, so a row the commit has already removed is simply gone
+        transactionTemplate.executeWithoutResult(status -> evidenceUploadRepository.findByIdForUpdate(upload.getId())
+                .ifPresent(evidenceUploadRepository::delete));
+    }
+
+    private EvidenceUploadDto convertToDto(EvidenceUpload upload) {
+        EvidenceUploadDto dto = new EvidenceUploadDto();
+        dto.setId(upload.getId());
+        dto.setTitle(upload.getTitle());
+        dto.setDescription(upload.getDescription());
+        dto.setCategory(upload.getCategory());
+        dto.setProjectId(upload.getProjectId());
+        dto.setUploadedBy(upload.getUploadedBy());
+        dto.setIdeaId(upload.getIdeaId());
+        dto.setEmployeeId(upload.getEmployeeId());
+        dto.setTags(upload.getTags());
+        dto.setFileName(upload.getFileName());
+        dto.setContentType(upload.getContentType());
+        dto.setTotalSize(upload.getTotalSize());
+        dto.setReceivedBytes(upload.getReceivedBytes());
+        dto.setCreatedAt(upload.getCreatedAt());
+        dto.setUpdatedAt(upload.getUpdatedAt());
+        return dto;
+    }
+}
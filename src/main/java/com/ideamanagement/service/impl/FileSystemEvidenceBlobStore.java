@@ -0,0 +1,156 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.service.EvidenceBlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+@Component
+public class FileSystemEvidenceBlobStore implements EvidenceBlobStore {
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final Path blobDir;
+    private final Path tempDir;
+    // Guards indexed by the first byte of the hash, so placing and deleting the same blob never interleave. They
+    // only cover this application instance
+    private final Lock[] guards = new Lock[256];
+
+    public FileSystemEvidenceBlobStore(@Value("${evidence.storage.root:uploads/evidence}") String storageRoot) {
+        Path root = Paths.get(storageRoot).toAbsolutePath().normalize();
+        this.blobDir = root.resolve("blobs");
+        this.tempDir = root.resolve("tmp");
+        for (int i = 0; i < guards.length; i++) {
+            guards[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public StoredBlob store(InputStream content) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            // Hash while writing so the content is only read once
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return place(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public StoredBlob store(Path file) throws IOException {
+        long size = Files.size(file);
+        String contentHash = hash(file);
+        try {
+            return place(file, contentHash, size);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public String hash(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public StoredBlob retain(String contentHash, long size) {
+        Path target = resolve(contentHash);
+        Lock guard = guard(contentHash);
+        guard.lock();
+        if (!Files.exists(target)) {
+            guard.unlock();
+            return null;
+        }
+        return new StoredBlob(contentHash, target, size, false, guard);
+    }
+
+    private StoredBlob place(Path source, String contentHash, long size) throws IOException {
+        Path target = resolve(contentHash);
+        Lock guard = guard(contentHash);
+        guard.lock();
+        try {
+            if (Files.exists(target)) {
+                return new StoredBlob(contentHash, target, size, false, guard);
+            }
+            // Sources live on the same file system, so this is a rename rather than a second copy
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredBlob(contentHash, target, size, true, guard);
+        } catch (IOException | RuntimeException ex) {
+            guard.unlock();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Path resolve(String contentHash) {
+        if (contentHash == null || !contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid content hash: " + contentHash);
+        }
+        // Two levels of sharding keep directory sizes small: blobs/ab/cd/abcd...
+        return blobDir.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        return Files.exists(resolve(contentHash));
+    }
+
+    @Override
+    public void deleteIfUnreferenced(String contentHash, BooleanSupplier unreferenced) throws IOException {
+        Path target = resolve(contentHash);
+        Lock guard = guard(contentHash);
+        guard.lock();
+        try {
+            if (unreferenced.getAsBoolean()) {
+                Files.deleteIfExists(target);
+            }
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private Lock guard(String contentHash) {
+        return guards[Integer.parseInt(contentHash.substring(0, 2), 16)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
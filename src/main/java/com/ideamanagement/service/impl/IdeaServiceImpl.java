@@ -1,31 +1,48 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.TrendingIdeaDto;
+import com.ideamanagement.dto.VersionStamp;
 import com.ideamanagement.entity.Idea;
 import com.ideamanagement.repository.IdeaRepository;
 import com.ideamanagement.service.IdeaService;
+import com.ideamanagement.service.SearchService;
+import com.ideamanagement.service.TrendingService;
 import com.ideamanagement.repository.EmployeeRepository;
 import com.ideamanagement.entity.Employee;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class IdeaServiceImpl implements IdeaService {
     private final IdeaRepository ideaRepository;
     private final EmployeeRepository employeeRepository;
+    private final SearchService searchService;
+    private final TrendingService trendingService;
 
-    public IdeaServiceImpl(IdeaRepository ideaRepository, EmployeeRepository employeeRepository) {
+    public IdeaServiceImpl(IdeaRepository ideaRepository, EmployeeRepository employeeRepository,
+                           SearchService searchService, TrendingService trendingService) {
         this.ideaRepository = ideaRepository;
         this.employeeRepository = employeeRepository;
+        this.searchService = searchService;
+        this.trendingService = trendingService;
     }
 
     @Override
@@ -40,9 +57,6 @@ public class IdeaServiceImpl implements IdeaService {
         } else {
             idea.setEmployee(null);
         }
-        // Set a new UUID for the idea
-        idea.setId(UUID.randomUUID());
-        
         // Set creation date and time
         idea.setCreatedDate(LocalDate.now());
         idea.setCreatedAt(LocalDateTime.now());
@@ -55,6 +69,7 @@ public class IdeaServiceImpl implements IdeaService {
         }
         
         Idea savedIdea = ideaRepository.save(idea);
+        searchService.indexIdea(savedIdea);
         return copyToDto(savedIdea);
     }
 
@@ -74,6 +89,8 @@ public class IdeaServiceImpl implements IdeaService {
             idea.setEmployee(null);
         }
         Idea updatedIdea = ideaRepository.save(idea);
+        searchService.indexIdea(updatedIdea);
+        trendingService.updateIdea(updatedIdea);
         return copyToDto(updatedIdea);
     }
 
@@ -85,6 +102,8 @@ public class IdeaServiceImpl implements IdeaService {
             throw new EntityNotFoundException("Idea not found with id: " + id + " for employee: " + employeeId);
         }
         ideaRepository.deleteByIdAndEmployeeId(id, employeeId);
+        searchService.removeIdea(id);
+        trendingService.removeIdea(id);
     }
 
     @Override
@@ -97,6 +116,16 @@ public class IdeaServiceImpl implements IdeaService {
         return copyToDto(idea);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getIdeaETag(UUID id, UUID employeeId) {
+        List<Object[]> rows = ideaRepository.findRevisionAndUpvotes(id, employeeId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return VersionStamp.eTag((Long) rows.get(0)[0], (Integer) rows.get(0)[1]);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<IdeaDto> getAllIdeas(Pageable pageable) {
@@ -131,6 +160,38 @@ public class IdeaServiceImpl implements IdeaService {
             .map(this::copyToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IdeaDto> searchIdeas(String query, Idea.Status status, String tag, Idea.Priority priority, Pageable pageable) {
+        Page<UUID> hits = searchService.searchIdeas(query, status, tag, priority, pageable);
+        Map<UUID, Idea> ideas = ideaRepository.findAllById(hits.getContent()).stream()
+            .collect(Collectors.toMap(Idea::getId, Function.identity()));
+        // Keep the search ranking; hits for ideas deleted in the meantime are dropped
+        List<IdeaDto> content = hits.getContent().stream()
+            .map(ideas::get)
+            .filter(Objects::nonNull)
+            .map(this::copyToDto)
+            .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.getTotalElements());
+    }
+
+    @Override
+    public List<TrendingIdeaDto> getTrendingIdeas(Idea.Status status, String tag, int limit) {
+        return trendingService.getTrending(status, tag, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<IdeaDto> scrollIdeas(UUID employeeId, String assignee, Idea.Status status, String tag, String cursor, Integer limit) {
+        Specification<Idea> specification = Specification.allOf(
+            KeysetPagination.equalTo(employeeId, "employee", "id"),
+            KeysetPagination.equalTo(assignee, "assignedTo"),
+            KeysetPagination.equalTo(status, "status"),
+            KeysetPagination.hasElement("tags", tag));
+        return KeysetPagination.scroll(ideaRepository, specification, "createdAt",
+            Idea::getCreatedAt, Idea::getId, cursor, limit, this::copyToDto);
+    }
+
     @Override
     @Transactional
     public IdeaDto patchIdea(UUID id, UUID employeeId, IdeaDto ideaDto) {
@@ -155,6 +216,8 @@ public class IdeaServiceImpl implements IdeaService {
             idea.setEmployee(employee);
         }
         Idea updatedIdea = ideaRepository.save(idea);
+        searchService.indexIdea(updatedIdea);
+        trendingService.updateIdea(updatedIdea);
         return copyToDto(updatedIdea);
     }
 
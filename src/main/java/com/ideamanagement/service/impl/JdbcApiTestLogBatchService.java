@@ -0,0 +1,223 @@
+package com.ideamanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideamanagement.dto.ApiTestLogBatchItemDto;
+import com.ideamanagement.dto.ApiTestLogBatchResultDto;
+import com.ideamanagement.dto.ApiTestLogDto;
+import com.ideamanagement.entity.UuidV7Generator;
+import com.ideamanagement.repository.ApiEndpointRepository;
+import com.ideamanagement.service.ApiTestLogBatchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Test logs are read from the body one by one and stored through ChunkedJdbcWriter, straight into api_test_logs
+@Service
+public class JdbcApiTestLogBatchService implements ApiTestLogBatchService {
+    private static final String INSERT_TEST_LOG = "INSERT INTO api_test_logs (id, endpoint_id, request_method, request_path, "
+            + "request_body, response_body, executed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_PATH_LENGTH = 255;
+
+    private final ApiEndpointRepository apiEndpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    // The zone Hibernate writes executed_at in for logs saved through the entity
+    private final ZoneId storeZone;
+
+    public JdbcApiTestLogBatchService(ApiEndpointRepository apiEndpointRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      ObjectMapper objectMapper,
+                                      @Value("${test-logs.batch.chunk-size:1000}") int chunkSize,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String storeZone) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("test-logs.batch.chunk-size must be positive");
+        }
+        this.apiEndpointRepository = apiEndpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.storeZone = StringUtils.hasText(storeZone) ? ZoneId.of(storeZone) : ZoneId.systemDefault();
+    }
+
+    @Override
+    public ApiTestLogBatchResultDto ingestJsonArray(InputStream content) {
+        Batch batch = new Batch();
+        long index = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("The request body must be a JSON array of test logs");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                // Reading the element as a tree first means a log with a bad field value leaves the parser on the next one
+                JsonNode node = objectMapper.readTree(parser);
+                if (node == null) {
+                    batch.reject(index, "Batch stopped: the JSON array is not closed");
+                    break;
+                }
+                try {
+                    batch.add(index, objectMapper.treeToValue(node, ApiTestLogDto.class));
+                } catch (JsonProcessingException ex) {
+                    batch.reject(index, "Invalid test log: " + ex.getOriginalMessage());
+                }
+                index++;
+            }
+        } catch (IOException ex) {
+            // The rest of the array cannot be parsed reliably, but the logs read so far are still stored
+            batch.reject(index, "Batch stopped: " + ex.getMessage());
+        }
+        return batch.finish();
+    }
+
+    @Override
+    public ApiTestLogBatchResultDto ingestNdjson(InputStream content) {
+        Batch batch = new Batch();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        long line = 0;
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(line, objectMapper.readValue(text, ApiTestLogDto.class));
+                } catch (JsonProcessingException ex) {
+                    batch.reject(line, "Invalid JSON: " + ex.getOriginalMessage());
+                }
+            }
+        } catch (IOException ex) {
+            batch.reject(line + 1, "Batch stopped: " + ex.getMessage());
+        }
+        return batch.finish();
+    }
+
+    private static String validate(ApiTestLogDto testLog) {
+        if (testLog.getEndpointId() == null) {
+            return "Endpoint ID is required";
+        }
+        if (testLog.getRequestMethod() == null) {
+            return "Request method is required";
+        }
+        if (!StringUtils.hasText(testLog.getRequestPath())) {
+            return "Request path is required";
+        }
+        if (testLog.getRequestPath().length() > MAX_PATH_LENGTH) {
+            return "Request path must be at most " + MAX_PATH_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    // The layout Hibernate uses for UUIDs in BINARY(16) columns
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    // State of one batch request. Each log gets its place in the results when it is read, and an error there if it
+    // cannot be stored
+    private final class Batch extends ChunkedJdbcWriter<PendingTestLog> {
+        private final ApiTestLogBatchResultDto result = new ApiTestLogBatchResultDto();
+
+        private Batch() {
+            super(transactionTemplate, chunkSize);
+        }
+
+        private void add(long index, ApiTestLogDto testLog) {
+            ApiTestLogBatchItemDto item = new ApiTestLogBatchItemDto(index, UuidV7Generator.randomUuid(), null);
+            result.getResults().add(item);
+            add(new PendingTestLog(item, testLog));
+        }
+
+        private void reject(long index, String message) {
+            result.getResults().add(new ApiTestLogBatchItemDto(index, null, message));
+            result.setFailed(result.getFailed() + 1);
+        }
+
+        @Override
+        protected String validate(PendingTestLog pending) {
+            return JdbcApiTestLogBatchService.validate(pending.testLog);
+        }
+
+        @Override
+        protected UUID reference(PendingTestLog pending) {
+            return pending.testLog.getEndpointId();
+        }
+
+        @Override
+        protected Set<UUID> findExistingReferences(Set<UUID> ids) {
+            return apiEndpointRepository.findExistingIds(ids);
+        }
+
+        @Override
+        protected String referenceNotFound(UUID id) {
+            return "API endpoint not found with id: " + id;
+        }
+
+        @Override
+        protected void write(List<PendingTestLog> chunk) {
+            LocalDateTime executedAt = LocalDateTime.now().atZone(ZoneId.systemDefault())
+                    .withZoneSameInstant(storeZone).toLocalDateTime();
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (PendingTestLog pending : chunk) {
+                ApiTestLogDto testLog = pending.testLog;
+                rows.add(new Object[]{toBytes(pending.result.getId()), toBytes(testLog.getEndpointId()),
+                        testLog.getRequestMethod().name(), testLog.getRequestPath(), testLog.getRequestBody(),
+                        testLog.getResponseBody(), executedAt});
+            }
+            jdbcTemplate.batchUpdate(INSERT_TEST_LOG, rows);
+        }
+
+        @Override
+        protected void written(int count) {
+            result.setCreated(result.getCreated() + count);
+        }
+
+        @Override
+        protected void rejected(PendingTestLog pending, String message) {
+            pending.result.setId(null);
+            pending.result.setError(message);
+            result.setFailed(result.getFailed() + 1);
+        }
+
+        private ApiTestLogBatchResultDto finish() {
+            flush();
+            return result;
+        }
+    }
+
+    private static final class PendingTestLog {
+        private final ApiTestLogBatchItemDto result;
+        private final ApiTestLogDto testLog;
+
+        private PendingTestLog(ApiTestLogBatchItemDto result, ApiTestLogDto testLog) {
+            this.result = result;
+            this.testLog = testLog;
+        }
+    }
+}
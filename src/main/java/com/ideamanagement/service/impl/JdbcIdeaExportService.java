@@ -0,0 +1,196 @@
+package com.ideamanagement.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.IdeaExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+// Reads ideas joined with their tags through one forward-only cursor and writes each idea as soon as its last tag
+// row has been read. Nothing enters the persistence context, so memory use does not grow with the export
+@Service
+public class JdbcIdeaExportService implements IdeaExportService {
+    private static final String SELECT_IDEAS = "SELECT i.id, i.title, i.description, i.priority, i.status, i.assigned_to, "
+            + "i.upvotes, i.comments, i.due_date, i.created_date, i.created_at, i.employee_id, t.tag "
+            + "FROM ideas i LEFT JOIN idea_tags t ON t.idea_id = i.id WHERE 1 = 1";
+    // Same order as the cursor mode of GET /api/ideas; it also keeps the tag rows of each idea together
+    private static final String ORDER = " ORDER BY i.created_at DESC, i.id DESC";
+    private static final String CSV_HEADER = "id,title,description,priority,status,assignedTo,dueDate,tags,employeeId,"
+            + "upvotes,comments,createdDate,createdAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+    private final ZoneId storeZone;
+
+    public JdbcIdeaExportService(JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${ideas.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String storeZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonWriter = objectMapper.writerFor(IdeaDto.class);
+        this.fetchSize = fetchSize;
+        this.storeZone = StringUtils.hasText(storeZone) ? ZoneId.of(storeZone) : ZoneId.systemDefault();
+    }
+
+    @Override
+    public void exportIdeas(Format format, UUID employeeId, String assignee, Idea.Status status, String tag,
+                            OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_IDEAS);
+        List<Object> args = new ArrayList<>();
+        if (employeeId != null) {
+            sql.append(" AND i.employee_id = ?");
+            args.add(employeeId.toString());
+        }
+        if (assignee != null) {
+            sql.append(" AND i.assigned_to = ?");
+            args.add(assignee);
+        }
+        if (status != null) {
+            sql.append(" AND i.status = ?");
+            args.add(status.name());
+        }
+        if (tag != null) {
+            // Filter through a separate lookup so the joined rows still carry all of the idea's tags
+            sql.append(" AND EXISTS (SELECT 1 FROM idea_tags f WHERE f.idea_id = i.id AND f.tag = ?)");
+            args.add(tag);
+        }
+        sql.append(ORDER);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+        IdeaCollector collector = new IdeaCollector(format, writer);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement statement = con.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Connector/J buffers the whole result unless the fetch size is Integer.MIN_VALUE, which makes it
+                // stream rows one at a time instead
+                boolean mysql = "MySQL".equals(con.getMetaData().getDatabaseProductName());
+                statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, collector::accept);
+            collector.finish();
+        } catch (UncheckedIOException ex) {
+            // Typically the client went away
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(Format format, IdeaDto idea, Writer writer) throws IOException {
+        if (format == Format.NDJSON) {
+            writer.write(jsonWriter.writeValueAsString(idea));
+            writer.write('\n');
+            return;
+        }
+        Object[] values = {idea.getId(), idea.getTitle(), idea.getDescription(), idea.getPriority(), idea.getStatus(),
+                idea.getAssignedTo(), idea.getDueDate(), String.join(";", idea.getTags()), idea.getEmployeeId(),
+                idea.getUpvotes(), idea.getComments(), idea.getCreatedDate(), idea.getCreatedAt()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // Folds the one-row-per-tag result back into ideas
+    private final class IdeaCollector {
+        private final Format format;
+        private final Writer writer;
+        private IdeaDto current;
+
+        private IdeaCollector(Format format, Writer writer) {
+            this.format = format;
+            this.writer = writer;
+        }
+
+        private void accept(ResultSet rs) throws SQLException {
+            UUID id = UUID.fromString(rs.getString("id"));
+            if (current == null || !current.getId().equals(id)) {
+                finish();
+                current = readIdea(id, rs);
+            }
+            String tag = rs.getString("tag");
+            if (tag != null) {
+                current.getTags().add(tag);
+            }
+        }
+
+        private void finish() {
+            if (current == null) {
+                return;
+            }
+            try {
+                write(format, current, writer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            current = null;
+        }
+
+        private IdeaDto readIdea(UUID id, ResultSet rs) throws SQLException {
+            IdeaDto idea = new IdeaDto();
+            idea.setId(id);
+            idea.setTitle(rs.getString("title"));
+            idea.setDescription(rs.getString("description"));
+            String priority = rs.getString("priority");
+            idea.setPriority(priority != null ? Idea.Priority.valueOf(priority) : null);
+            String status = rs.getString("status");
+            idea.setStatus(status != null ? Idea.Status.valueOf(status) : null);
+            idea.setAssignedTo(rs.getString("assigned_to"));
+            idea.setUpvotes(rs.getInt("upvotes"));
+            idea.setComments(rs.getInt("comments"));
+            idea.setDueDate(rs.getObject("due_date", LocalDate.class));
+            idea.setCreatedDate(rs.getObject("created_date", LocalDate.class));
+            LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+            idea.setCreatedAt(createdAt.atZone(storeZone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+            String employeeId = rs.getString("employee_id");
+            idea.setEmployeeId(employeeId != null ? UUID.fromString(employeeId) : null);
+            idea.setTags(new HashSet<>());
+            return idea;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.ideamanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.IdeaImportErrorDto;
+import com.ideamanagement.dto.IdeaImportResultDto;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.entity.UuidV7Generator;
+import com.ideamanagement.repository.EmployeeRepository;
+import com.ideamanagement.service.IdeaImportService;
+import com.ideamanagement.service.SearchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+// Rows are parsed one at a time and handed to ChunkedJdbcWriter, which inserts them as JDBC batches without going
+// through the persistence context
+@Service
+public class JdbcIdeaImportService implements IdeaImportService {
+    private static final String INSERT_IDEA = "INSERT INTO ideas (id, title, description, priority, status, assigned_to, "
+            + "upvotes, comments, revision, due_date, created_date, created_at, employee_id) VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO idea_tags (idea_id, tag) VALUES (?, ?)";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_ASSIGNEE_LENGTH = 100;
+    private static final int MAX_TAG_LENGTH = 50;
+
+    private final EmployeeRepository employeeRepository;
+    private final SearchService searchService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    // Hibernate writes timestamps in this zone, so rows inserted here must match
+    private final ZoneId storeZone;
+
+    public JdbcIdeaImportService(EmployeeRepository employeeRepository,
+                                 SearchService searchService,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${ideas.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String storeZone) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("ideas.import.chunk-size must be positive");
+        }
+        this.employeeRepository = employeeRepository;
+        this.searchService = searchService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.storeZone = StringUtils.hasText(storeZone) ? ZoneId.of(storeZone) : ZoneId.systemDefault();
+    }
+
+    // The header names the columns, in any order: title, description, priority, status, assignedTo, dueDate,
+    // tags (separated by ; or |) and employeeId. Unknown columns are ignored
+    @Override
+    public IdeaImportResultDto importCsv(InputStream content, UUID defaultEmployeeId) {
+        Import job = new Import(defaultEmployeeId);
+        CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8)));
+        long row = 1;
+        try {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("The CSV file is empty");
+            }
+            String[] columns = header.stream()
+                    .map(name -> name.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", ""))
+                    .toArray(String[]::new);
+            if (!Arrays.asList(columns).contains("title")) {
+                throw new IllegalArgumentException("The CSV header must include a title column");
+            }
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                row++;
+                if (record.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                IdeaDto idea;
+                try {
+                    idea = fromCsv(columns, record);
+                } catch (IllegalArgumentException ex) {
+                    job.reject(row, ex.getMessage());
+                    continue;
+                }
+                job.add(row, idea);
+            }
+        } catch (IOException ex) {
+            // The rest of the input cannot be parsed reliably, but the rows read so far are still imported
+            job.reject(row + 1, "Import stopped: " + ex.getMessage());
+        }
+        return job.finish();
+    }
+
+    // One JSON idea per line, with the same fields as POST /api/ideas
+    @Override
+    public IdeaImportResultDto importNdjson(InputStream content, UUID defaultEmployeeId) {
+        Import job = new Import(defaultEmployeeId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        long row = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                IdeaDto idea;
+                try {
+                    idea = objectMapper.readValue(line, IdeaDto.class);
+                } catch (JsonProcessingException ex) {
+                    job.reject(row, "Invalid JSON: " + ex.getOriginalMessage());
+                    continue;
+                }
+                job.add(row, idea);
+            }
+        } catch (IOException ex) {
+            job.reject(row + 1, "Import stopped: " + ex.getMessage());
+        }
+        return job.finish();
+    }
+
+    private IdeaDto fromCsv(String[] columns, List<String> record) {
+        IdeaDto idea = new IdeaDto();
+        for (int i = 0; i < columns.length && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns[i]) {
+                case "title" -> idea.setTitle(value);
+                case "description" -> idea.setDescription(value);
+                case "priority" -> idea.setPriority(parseEnum(Idea.Priority.class, "priority", value));
+                case "status" -> idea.setStatus(parseEnum(Idea.Status.class, "status", value));
+                case "assignedto" -> idea.setAssignedTo(value);
+                case "duedate" -> {
+                    try {
+                        idea.setDueDate(LocalDate.parse(value));
+                    } catch (DateTimeParseException ex) {
+                        throw new IllegalArgumentException("Due date '" + value + "' is not a YYYY-MM-DD date");
+                    }
+                }
+                case "tags" -> idea.setTags(new HashSet<>(Arrays.asList(value.split("[;|]"))));
+                case "employeeid" -> {
+                    try {
+                        idea.setEmployeeId(UUID.fromString(value));
+                    } catch (IllegalArgumentException ex) {
+                        throw new IllegalArgumentException("Employee ID '" + value + "' is not a UUID");
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return idea;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown " + name + " '" + value + "', expected one of "
+                    + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+
+    // Same rules the ideas table and IdeaService enforce
+    private static String validate(Idea idea) {
+        if (!StringUtils.hasText(idea.getTitle())) {
+            return "Title is required";
+        }
+        if (idea.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Title must be at most " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (idea.getPriority() == null) {
+            return "Priority is required";
+        }
+        if (idea.getAssignedTo() != null && idea.getAssignedTo().length() > MAX_ASSIGNEE_LENGTH) {
+            return "Assignee must be at most " + MAX_ASSIGNEE_LENGTH + " characters";
+        }
+        for (String tag : idea.getTags()) {
+            if (tag.length() > MAX_TAG_LENGTH) {
+                return "Tag '" + tag + "' is longer than " + MAX_TAG_LENGTH + " characters";
+            }
+        }
+        return null;
+    }
+
+    // State of one import request
+    private final class Import extends ChunkedJdbcWriter<PendingIdea> {
+        private final UUID defaultEmployeeId;
+        private final IdeaImportResultDto result = new IdeaImportResultDto();
+
+        private Import(UUID defaultEmployeeId) {
+            super(transactionTemplate, chunkSize);
+            this.defaultEmployeeId = defaultEmployeeId;
+        }
+
+        private void add(long row, IdeaDto dto) {
+            Set<String> tags = new HashSet<>();
+            if (dto.getTags() != null) {
+                for (String tag : dto.getTags()) {
+                    if (StringUtils.hasText(tag)) {
+                        tags.add(tag.trim());
+                    }
+                }
+            }
+            Idea idea = new Idea();
+            idea.setId(UuidV7Generator.randomUuid());
+            idea.setTitle(dto.getTitle() != null ? dto.getTitle().trim() : null);
+            idea.setDescription(dto.getDescription());
+            idea.setPriority(dto.getPriority());
+            idea.setStatus(dto.getStatus() != null ? dto.getStatus() : Idea.Status.PENDING);
+            idea.setAssignedTo(dto.getAssignedTo());
+            idea.setDueDate(dto.getDueDate());
+            idea.setCreatedDate(LocalDate.now());
+            idea.setCreatedAt(LocalDateTime.now());
+            idea.setTags(tags);
+            add(new PendingIdea(row, idea, dto.getEmployeeId() != null ? dto.getEmployeeId() : defaultEmployeeId));
+        }
+
+        private void reject(long row, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new IdeaImportErrorDto(row, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        @Override
+        protected String validate(PendingIdea pending) {
+            return JdbcIdeaImportService.validate(pending.idea);
+        }
+
+        @Override
+        protected UUID reference(PendingIdea pending) {
+            return pending.employeeId;
+        }
+
+        @Override
+        protected Set<UUID> findExistingReferences(Set<UUID> ids) {
+            return employeeRepository.findExistingIds(ids);
+        }
+
+        @Override
+        protected String referenceNotFound(UUID id) {
+            return "Employee not found with id: " + id;
+        }
+
+        // Ideas and their tags go in as two batches, and the ideas are indexed in the same transaction
+        @Override
+        protected void write(List<PendingIdea> chunk) {
+            List<Object[]> ideaRows = new ArrayList<>(chunk.size());
+            List<Object[]> tagRows = new ArrayList<>();
+            List<Idea> ideas = new ArrayList<>(chunk.size());
+            for (PendingIdea pending : chunk) {
+                Idea idea = pending.idea;
+                String id = idea.getId().toString();
+                ideaRows.add(new Object[]{id, idea.getTitle(), idea.getDescription(), idea.getPriority().name(),
+                        idea.getStatus().name(), idea.getAssignedTo(), idea.getDueDate(), idea.getCreatedDate(),
+                        idea.getCreatedAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(storeZone).toLocalDateTime(),
+                        pending.employeeId != null ? pending.employeeId.toString() : null});
+                for (String tag : idea.getTags()) {
+                    tagRows.add(new Object[]{id, tag});
+                }
+                ideas.add(idea);
+            }
+            jdbcTemplate.batchUpdate(INSERT_IDEA, ideaRows);
+            if (!tagRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TAG, tagRows);
+            }
+            searchService.indexIdeas(ideas);
+        }
+
+        @Override
+        protected void written(int count) {
+            result.setImported(result.getImported() + count);
+        }
+
+        @Override
+        protected void rejected(PendingIdea pending, String message) {
+            reject(pending.row, message);
+        }
+
+        private IdeaImportResultDto finish() {
+            flush();
+            return result;
+        }
+    }
+
+    private static final class PendingIdea {
+        private final long row;
+        private final Idea idea;
+        private final UUID employeeId;
+
+        private PendingIdea(long row, Idea idea, UUID employeeId) {
+            this.row = row;
+            this.idea = idea;
+            this.employeeId = employeeId;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.dto.CursorPageDto;
+import com.ideamanagement.dto.PageCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Cursor mode shared by the list endpoints: newest first, seeking on (<timestamp>, id) through Spring Data
+// keyset scrolling. Deep pages cost the same as the first one and no COUNT query is issued
+final class KeysetPagination {
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private KeysetPagination() {
+    }
+
+    static int checkLimit(Integer limit) {
+        int pageLimit = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageLimit < 1 || pageLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        return pageLimit;
+    }
+
+    static <E, D> CursorPageDto<D> scroll(JpaSpecificationExecutor<E> repository,
+                                          Specification<E> specification,
+                                          String timestampProperty,
+                                          Function<E, LocalDateTime> timestamp,
+                                          Function<E, UUID> id,
+                                          String cursor,
+                                          Integer limit,
+                                          Function<E, D> mapper) {
+        int pageLimit = checkLimit(limit);
+        ScrollPosition position = ScrollPosition.keyset();
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor);
+            position = ScrollPosition.forward(Map.of(timestampProperty, after.getTimestamp(), "id", after.getId()));
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, timestampProperty, "id");
+        ScrollPosition start = position;
+        Window<E> window = repository.findBy(specification, query -> query.sortBy(sort).limit(pageLimit).scroll(start));
+
+        List<D> content = window.getContent().stream().map(mapper).collect(Collectors.toList());
+        String nextCursor = null;
+        if (window.hasNext()) {
+            E last = window.getContent().get(window.size() - 1);
+            nextCursor = new PageCursor(timestamp.apply(last), id.apply(last)).encode();
+        }
+        return new CursorPageDto<>(content, nextCursor, window.hasNext());
+    }
+
+    // Equality on an attribute path such as ("employee", "id"); no restriction when the value is null
+    static <E> Specification<E> equalTo(Object value, String... attributePath) {
+        return (root, query, builder) -> {
+            if (value == null) {
+                return null;
+            }
+            Path<?> path = root;
+            for (String attribute : attributePath) {
+                path = path.get(attribute);
+            }
+            return builder.equal(path, value);
+        };
+    }
+
+    // Membership in an element collection, joined so an index on the collection table's value can be used
+    static <E> Specification<E> hasElement(String collection, Object value) {
+        return (root, query, builder) -> value == null ? null : builder.equal(root.join(collection), value);
+    }
+}
@@ -1,66 +1,91 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.LikeDto;
-import com.ideamanagement.entity.Idea;
+import com.ideamanagement.dto.LikeStatusDto;
 import com.ideamanagement.entity.Like;
-import com.ideamanagement.entity.User;
 import com.ideamanagement.repository.IdeaRepository;
 import com.ideamanagement.repository.LikeRepository;
 import com.ideamanagement.repository.UserRepository;
 import com.ideamanagement.service.LikeService;
+import com.ideamanagement.service.TrendingService;
+import com.ideamanagement.service.UpvoteCounter;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LikeServiceImpl implements LikeService {
+    private static final int MAX_STATUS_IDEAS = 200;
+
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final IdeaRepository ideaRepository;
+    private final UpvoteCounter upvoteCounter;
+    private final TrendingService trendingService;
 
     @Override
     @Transactional
     public LikeDto createLike(UUID userId, UUID ideaId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        Idea idea = ideaRepository.findById(ideaId)
-                .orElseThrow(() -> new RuntimeException("Idea not found"));
-
         if (likeRepository.existsByUserIdAndIdeaId(userId, ideaId)) {
-            throw new RuntimeException("User has already liked this idea");
+            throw alreadyLiked();
         }
 
+        // References instead of loads: the foreign keys reject an unknown user or idea on insert
         Like like = new Like();
-        like.setUser(user);
-        like.setIdea(idea);
+        like.setUser(userRepository.getReferenceById(userId));
+        like.setIdea(ideaRepository.getReferenceById(ideaId));
 
-        Like savedLike = likeRepository.save(like);
-        
-        // Update idea upvotes count
-        idea.setUpvotes((int) likeRepository.countByIdeaId(ideaId));
-        ideaRepository.save(idea);
+        Like savedLike;
+        try {
+            savedLike = likeRepository.saveAndFlush(like);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent like of the same idea got past the check above and hit the unique key first
+            if (isDuplicateKey(ex)) {
+                throw alreadyLiked();
+            }
+            throw new EntityNotFoundException("User " + userId + " or idea " + ideaId + " not found");
+        }
 
+        upvoteCounter.record(ideaId, 1);
+        trendingService.recordLike(ideaId);
         return convertToDto(savedLike);
     }
 
+    private static RuntimeException alreadyLiked() {
+        return new RuntimeException("User has already liked this idea");
+    }
+
+    // MySQL reports a duplicate key as error 1062, H2 with the standard SQLSTATE 23505; both report the foreign
+    // key failures under other codes
+    private static boolean isDuplicateKey(DataIntegrityViolationException ex) {
+        return ex.getMostSpecificCause() instanceof SQLException sqlEx
+                && (sqlEx.getErrorCode() == 1062 || "23505".equals(sqlEx.getSQLState()));
+    }
+
     @Override
     @Transactional
     public void deleteLike(UUID userId, UUID ideaId) {
-        Like like = likeRepository.findByUserIdAndIdeaId(userId, ideaId)
-                .orElseThrow(() -> new RuntimeException("Like not found"));
-        
-        likeRepository.delete(like);
-        
-        // Update idea upvotes count
-        Idea idea = ideaRepository.findById(ideaId)
-                .orElseThrow(() -> new RuntimeException("Idea not found"));
-        idea.setUpvotes((int) likeRepository.countByIdeaId(ideaId));
-        ideaRepository.save(idea);
+        if (likeRepository.deleteByUserIdAndIdeaId(userId, ideaId) == 0) {
+            throw new RuntimeException("Like not found");
+        }
+        upvoteCounter.record(ideaId, -1);
+        trendingService.recordUnlike(ideaId);
     }
 
     @Override
@@ -75,6 +100,35 @@ public class LikeServiceImpl implements LikeService {
         return likeRepository.countByIdeaId(ideaId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<LikeStatusDto> getLikeStatus(UUID userId, List<UUID> ideaIds) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        if (ideaIds == null || ideaIds.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(ideaIds);
+        if (distinctIds.size() > MAX_STATUS_IDEAS) {
+            throw new IllegalArgumentException("At most " + MAX_STATUS_IDEAS + " ideas can be looked up at once");
+        }
+
+        Map<UUID, Object[]> rows = new HashMap<>();
+        for (Object[] row : likeRepository.findLikeStatus(userId, distinctIds)) {
+            rows.put((UUID) row[0], row);
+        }
+        // Ideas without any likes have no row
+        return distinctIds.stream()
+                .map(ideaId -> {
+                    Object[] row = rows.get(ideaId);
+                    return row == null
+                            ? new LikeStatusDto(ideaId, false, 0)
+                            : new LikeStatusDto(ideaId, ((Number) row[2]).longValue() > 0, ((Number) row[1]).longValue());
+                })
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<LikeDto> getLikesByIdea(UUID ideaId, Pageable pageable) {
@@ -89,6 +143,16 @@ public class LikeServiceImpl implements LikeService {
                 .map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<LikeDto> scrollLikes(UUID ideaId, UUID userId, String cursor, Integer limit) {
+        Specification<Like> specification = Specification.allOf(
+            KeysetPagination.equalTo(ideaId, "idea", "id"),
+            KeysetPagination.equalTo(userId, "user", "id"));
+        return KeysetPagination.scroll(likeRepository, specification, "createdAt",
+            Like::getCreatedAt, Like::getId, cursor, limit, this::convertToDto);
+    }
+
     private LikeDto convertToDto(Like like) {
         LikeDto dto = new LikeDto();
         dto.setId(like.getId());
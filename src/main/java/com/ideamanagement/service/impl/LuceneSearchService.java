@@ -0,0 +1,281 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.repository.IdeaRepository;
+import com.ideamanagement.service.SearchService;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Embedded Lucene index of ideas. Writes go through a single IndexWriter and become searchable through a
+// near-real-time reader right away; they are committed to disk periodically and on shutdown
+@Service
+public class LuceneSearchService implements SearchService {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String PRIORITY = "priority";
+    private static final String TAG = "tag";
+    // Title matches rank above description matches
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 3.0f, DESCRIPTION, 1.0f);
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final IdeaRepository ideaRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LuceneSearchService(IdeaRepository ideaRepository,
+                               @Value("${search.index.dir:data/search-index}") String indexDir) {
+        this.ideaRepository = ideaRepository;
+        Path path = Paths.get(indexDir).toAbsolutePath().normalize();
+        try {
+            IndexWriterConfig config = new IndexWriterConfig(analyzer);
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(FSDirectory.open(path), config);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not open the search index at " + path, ex);
+        }
+    }
+
+    // The index is derived data: rebuild it when it was lost or fell out of step while the application was down
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndex() {
+        long indexed = writer.getDocStats().numDocs;
+        long ideas = ideaRepository.count();
+        if (indexed != ideas) {
+            System.err.println("Search index holds " + indexed + " of " + ideas + " ideas, rebuilding");
+            rebuildIdeaIndex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:5000}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException ex) {
+            System.err.println("Could not commit the search index: " + ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            writer.close();
+        } catch (IOException ex) {
+            System.err.println("Could not close the search index: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public void indexIdea(Idea idea) {
+        // Snapshot the idea now, while it is still attached; the write itself waits for the commit
+        Document document = toDocument(idea);
+        Term id = new Term(ID, idea.getId().toString());
+        afterCommit(() -> {
+            writer.updateDocument(id, document);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    // One reader refresh for the whole batch instead of one per idea
+    @Override
+    public void indexIdeas(List<Idea> ideas) {
+        List<Document> documents = new ArrayList<>(ideas.size());
+        for (Idea idea : ideas) {
+            documents.add(toDocument(idea));
+        }
+        afterCommit(() -> {
+            for (Document document : documents) {
+                writer.updateDocument(new Term(ID, document.get(ID)), document);
+            }
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    @Override
+    public void removeIdea(UUID ideaId) {
+        Term id = new Term(ID, ideaId.toString());
+        afterCommit(() -> {
+            writer.deleteDocuments(id);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    @Override
+    public Page<UUID> searchIdeas(String query, Idea.Status status, String tag, Idea.Priority priority, Pageable pageable) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Search results are limited to the first " + MAX_RESULT_WINDOW + " matches");
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        builder.add(textQuery(query.trim()), BooleanClause.Occur.MUST);
+        if (status != null) {
+            builder.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        if (priority != null) {
+            builder.add(new TermQuery(new Term(PRIORITY, priority.name())), BooleanClause.Occur.FILTER);
+        }
+        if (StringUtils.hasText(tag)) {
+            builder.add(new TermQuery(new Term(TAG, tag)), BooleanClause.Occur.FILTER);
+        }
+        Query search = builder.build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(search, (int) pageable.getOffset() + pageable.getPageSize());
+                List<UUID> ids = new ArrayList<>();
+                ScoreDoc[] hits = top.scoreDocs;
+                for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+                    ids.add(UUID.fromString(searcher.storedFields().document(hits[i].doc).get(ID)));
+                }
+                return new PageImpl<>(ids, pageable, searcher.count(search));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not search ideas", ex);
+        }
+    }
+
+    @Override
+    public void rebuildIdeaIndex() {
+        try {
+            writer.deleteAll();
+            Pageable page = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+            Page<Idea> ideas;
+            do {
+                ideas = ideaRepository.findAll(page);
+                for (Idea idea : ideas) {
+                    writer.addDocument(toDocument(idea));
+                }
+                page = page.next();
+            } while (ideas.hasNext());
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not rebuild the search index", ex);
+        }
+    }
+
+    // Words may be combined with "quoted phrases", -exclusions and explicit prefix* terms. The last word is also
+    // matched as a prefix while it is still being typed, with exact matches ranked above prefix-only ones
+    private Query textQuery(String text) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query exact = parser.parse(text);
+        char last = text.charAt(text.length() - 1);
+        boolean openPhrase = text.chars().filter(c -> c == '"').count() % 2 != 0;
+        if (!Character.isLetterOrDigit(last) || openPhrase) {
+            return exact;
+        }
+        return new BooleanQuery.Builder()
+                .add(exact, BooleanClause.Occur.SHOULD)
+                .add(parser.parse(text + "*"), BooleanClause.Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1)
+                .build();
+    }
+
+    private Document toDocument(Idea idea) {
+        Document document = new Document();
+        document.add(new StringField(ID, idea.getId().toString(), Field.Store.YES));
+        if (idea.getTitle() != null) {
+            document.add(new TextField(TITLE, idea.getTitle(), Field.Store.NO));
+        }
+        if (idea.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, idea.getDescription(), Field.Store.NO));
+        }
+        if (idea.getStatus() != null) {
+            document.add(new StringField(STATUS, idea.getStatus().name(), Field.Store.NO));
+        }
+        if (idea.getPriority() != null) {
+            document.add(new StringField(PRIORITY, idea.getPriority().name(), Field.Store.NO));
+        }
+        if (idea.getTags() != null) {
+            for (String tag : idea.getTags()) {
+                document.add(new StringField(TAG, tag, Field.Store.NO));
+            }
+        }
+        return document;
+    }
+
+    private void afterCommit(IndexUpdate update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    // A failed index write must not fail a request whose data is already committed
+    private void apply(IndexUpdate update) {
+        try {
+            update.run();
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Could not update the search index: " + ex.getMessage());
+        }
+    }
+
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.ProjectDto;
 import com.ideamanagement.entity.Project;
 import com.ideamanagement.repository.ProjectRepository;
@@ -7,6 +8,7 @@ import com.ideamanagement.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +48,13 @@ public class ProjectServiceImpl implements ProjectService {
                 .map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProjectDto> scrollProjects(String cursor, Integer limit) {
+        return KeysetPagination.scroll(projectRepository, Specification.where(null), "createdAt",
+            Project::getCreatedAt, Project::getId, cursor, limit, this::convertToDto);
+    }
+
     @Override
     public ProjectDto updateProject(UUID id, ProjectDto projectDto) {
         Project project = projectRepository.findById(id)
@@ -0,0 +1,226 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.config.SqlStatementTracker;
+import com.ideamanagement.dto.QueryStatsDto;
+import com.ideamanagement.dto.SlowQueryDto;
+import com.ideamanagement.service.SlowQueryLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Every statement only bumps lock-free counters keyed by its SQL text, which Hibernate and JdbcTemplate already
+// keep free of values. Statements over the threshold, and a random sample of the rest, additionally go into a
+// fixed-size ring buffer with their normalised SQL and calling frames. The first time a SELECT shape turns out
+// slow, its plan is captured with EXPLAIN on a background thread, using the parameters of that execution
+@Service
+public class RingBufferSlowQueryLog implements SlowQueryLog {
+    private static final String APPLICATION_PACKAGE = "com.ideamanagement.";
+
+    private final DataSource dataSource;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int stackDepth;
+    private final int maxStatements;
+    private final boolean explainEnabled;
+    private final AtomicReferenceArray<Entry> recent;
+    private final AtomicLong recorded = new AtomicLong();
+    private final Map<String, Stats> statsBySql = new ConcurrentHashMap<>();
+    private final Set<String> explainedShapes = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> plansByShape = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor explainExecutor;
+
+    public RingBufferSlowQueryLog(DataSource dataSource,
+                                  @Value("${sql.slow-query.threshold:200ms}") Duration threshold,
+                                  @Value("${sql.slow-query.sample-rate:0.001}") double sampleRate,
+                                  @Value("${sql.slow-query.buffer-size:500}") int bufferSize,
+                                  @Value("${sql.slow-query.stack-depth:10}") int stackDepth,
+                                  @Value("${sql.slow-query.max-statements:5000}") int maxStatements,
+                                  @Value("${sql.slow-query.explain:true}") boolean explainEnabled) {
+        this.dataSource = dataSource;
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.stackDepth = stackDepth;
+        this.maxStatements = maxStatements;
+        this.explainEnabled = explainEnabled;
+        this.recent = new AtomicReferenceArray<>(bufferSize);
+        this.explainExecutor = new ThreadPoolTaskExecutor();
+        this.explainExecutor.setCorePoolSize(1);
+        this.explainExecutor.setMaxPoolSize(1);
+        this.explainExecutor.setQueueCapacity(100);
+        this.explainExecutor.setThreadPriority(Thread.MIN_PRIORITY);
+        this.explainExecutor.setThreadNamePrefix("slow-query-explain-");
+        this.explainExecutor.setWaitForTasksToCompleteOnShutdown(false);
+        this.explainExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdown();
+    }
+
+    @Override
+    public void record(String sql, long elapsedNanos, boolean success, Supplier<List<Object>> parameters) {
+        // The plans captured here run through the same data source
+        if (sql.regionMatches(true, 0, "EXPLAIN ", 0, 8)) {
+            return;
+        }
+        boolean slow = elapsedNanos >= thresholdNanos;
+        Stats stats = statsBySql.get(sql);
+        if (stats == null && statsBySql.size() < maxStatements) {
+            stats = statsBySql.computeIfAbsent(sql, key -> new Stats());
+        }
+        if (stats != null) {
+            stats.add(elapsedNanos, slow, success);
+        }
+
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        String shape = SqlStatementTracker.shape(sql);
+        Entry entry = new Entry(shape, elapsedNanos, LocalDateTime.now(), slow, success,
+                Thread.currentThread().getName(), caller());
+        recent.set((int) (recorded.getAndIncrement() % recent.length()), entry);
+        if (slow && explainEnabled && explainedShapes.add(shape)) {
+            List<Object> values = parameters.get();
+            try {
+                explainExecutor.execute(() -> plansByShape.put(shape, explain(sql, values)));
+            } catch (TaskRejectedException ex) {
+                // Try again the next time this shape is slow
+                explainedShapes.remove(shape);
+            }
+        }
+    }
+
+    @Override
+    public List<SlowQueryDto> getRecentQueries(int limit) {
+        List<SlowQueryDto> queries = new ArrayList<>();
+        long last = recorded.get() - 1;
+        for (long i = last; i >= 0 && i > last - recent.length() && queries.size() < limit; i--) {
+            Entry entry = recent.get((int) (i % recent.length()));
+            if (entry != null) {
+                queries.add(new SlowQueryDto(entry.shape, entry.elapsedNanos / 1e6, entry.executedAt, entry.slow,
+                        entry.success, entry.thread, entry.caller, plansByShape.get(entry.shape)));
+            }
+        }
+        return queries;
+    }
+
+    // Totals per normalised statement, the most time-consuming first
+    @Override
+    public List<QueryStatsDto> getQueryStats(int limit) {
+        Map<String, QueryStatsDto> byShape = new HashMap<>();
+        statsBySql.forEach((sql, stats) -> {
+            String shape = SqlStatementTracker.shape(sql);
+            QueryStatsDto total = byShape.computeIfAbsent(shape, key -> new QueryStatsDto(key, 0, 0, 0, 0, 0, 0, plansByShape.get(key)));
+            total.setCount(total.getCount() + stats.count.sum());
+            total.setSlowCount(total.getSlowCount() + stats.slow.sum());
+            total.setErrorCount(total.getErrorCount() + stats.errors.sum());
+            total.setTotalMs(total.getTotalMs() + stats.totalNanos.sum() / 1e6);
+            total.setMaxMs(Math.max(total.getMaxMs(), stats.maxNanos.get() / 1e6));
+        });
+        return byShape.values().stream()
+                .filter(stats -> stats.getCount() > 0)
+                .peek(stats -> stats.setMeanMs(stats.getTotalMs() / stats.getCount()))
+                .sorted(Comparator.comparingDouble(QueryStatsDto::getTotalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        statsBySql.clear();
+        for (int i = 0; i < recent.length(); i++) {
+            recent.set(i, null);
+        }
+        explainedShapes.clear();
+        plansByShape.clear();
+    }
+
+    private List<String> caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().contains("$$")
+                        && !frame.getClassName().equals(RingBufferSlowQueryLog.class.getName())
+                        && !frame.getClassName().startsWith(APPLICATION_PACKAGE + "config."))
+                .limit(stackDepth)
+                .map(frame -> frame.getClassName().substring(APPLICATION_PACKAGE.length()) + "."
+                        + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+    }
+
+    private String explain(String sql, List<Object> parameters) {
+        if (!sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            return "Plans are only captured for SELECT statements";
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery()) {
+                ResultSetMetaData columns = rows.getMetaData();
+                for (int c = 1; c <= columns.getColumnCount(); c++) {
+                    plan.append(c > 1 ? " | " : "").append(columns.getColumnLabel(c));
+                }
+                while (rows.next()) {
+                    plan.append('\n');
+                    for (int c = 1; c <= columns.getColumnCount(); c++) {
+                        plan.append(c > 1 ? " | " : "").append(rows.getString(c));
+                    }
+                }
+            }
+            return plan.toString();
+        } catch (SQLException ex) {
+            return "EXPLAIN failed: " + ex.getMessage();
+        }
+    }
+
+    private record Entry(String shape, long elapsedNanos, LocalDateTime executedAt, boolean slow, boolean success,
+                         String thread, List<String> caller) {
+    }
+
+    private static class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long elapsedNanos, boolean isSlow, boolean success) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (isSlow) {
+                slow.increment();
+            }
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+}
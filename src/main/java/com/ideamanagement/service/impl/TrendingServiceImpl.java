@@ -0,0 +1,408 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.dto.TrendingIdeaDto;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.repository.IdeaRepository;
+import com.ideamanagement.repository.LikeRepository;
+import com.ideamanagement.service.TrendingService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Scores use forward decay: a like adds e^((t - landmark) / tau), so stored scores never need decaying and ideas
+// compare correctly at any moment; the current value is the stored score times e^((landmark - now) / tau).
+// Every ranking (all ideas, per status, per tag) keeps only its top K, published as an immutable list
+@Service
+public class TrendingServiceImpl implements TrendingService {
+    private static final String ALL = "all";
+    // Rescale once the landmark is this many time constants old, long before e^x can overflow
+    private static final double MAX_LANDMARK_AGE = 50;
+    // Ideas whose current score falls below this are forgotten at the next checkpoint
+    private static final double MIN_SCORE = 0.01;
+    // Without a checkpoint, likes older than this many half-lives weigh too little to replay
+    private static final int REPLAY_HALF_LIVES = 10;
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final Comparator<Entry> BY_SCORE = Comparator.comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.id);
+
+    private final IdeaRepository ideaRepository;
+    private final LikeRepository likeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration halfLife;
+    private final double tau;
+    private final int topK;
+    private final Path checkpointFile;
+
+    // Guarded by this
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private long landmark = System.currentTimeMillis();
+    // Read without locking
+    private final Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+    private volatile boolean restored;
+
+    public TrendingServiceImpl(IdeaRepository ideaRepository,
+                               LikeRepository likeRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${trending.half-life:24h}") Duration halfLife,
+                               @Value("${trending.top-k:50}") int topK,
+                               @Value("${trending.checkpoint-file:data/trending-checkpoint.csv}") String checkpointFile) {
+        this.ideaRepository = ideaRepository;
+        this.likeRepository = likeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.halfLife = halfLife;
+        this.tau = halfLife.toMillis() / Math.log(2);
+        this.topK = topK;
+        this.checkpointFile = Paths.get(checkpointFile).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void recordLike(UUID ideaId) {
+        afterCommit(() -> recordVote(ideaId, 1));
+    }
+
+    @Override
+    public void recordUnlike(UUID ideaId) {
+        afterCommit(() -> recordVote(ideaId, -1));
+    }
+
+    @Override
+    public void updateIdea(Idea idea) {
+        Entry snapshot = new Entry(idea, 0);
+        afterCommit(() -> {
+            synchronized (this) {
+                // Ideas without likes are not tracked; their details are loaded with the first like
+                Entry old = entries.get(snapshot.id);
+                if (old != null) {
+                    Entry updated = snapshot.withScore(old.score);
+                    entries.put(updated.id, updated);
+                    reposition(old, updated);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void removeIdea(UUID ideaId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                Entry old = entries.remove(ideaId);
+                if (old != null) {
+                    reposition(old, null);
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<TrendingIdeaDto> getTrending(Idea.Status status, String tag, int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + topK + ".");
+        }
+        // A tag ranking is narrower than a status ranking, so it is filtered by status rather than the reverse
+        Ranking ranking = rankings.get(tag != null ? "tag:" + tag : status != null ? "status:" + status : ALL);
+        if (ranking == null) {
+            return List.of();
+        }
+        double decay = Math.exp((ranking.landmark - System.currentTimeMillis()) / tau);
+        return ranking.entries.stream()
+                .filter(entry -> status == null || entry.status == status)
+                .limit(limit)
+                .map(entry -> new TrendingIdeaDto(entry.id, entry.title, entry.priority, entry.status, entry.tags, entry.score * decay))
+                .collect(Collectors.toList());
+    }
+
+    // Starts from the last checkpoint and replays only the likes made since it was written
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = System.currentTimeMillis();
+        long restoredLandmark = now;
+        long since = now - REPLAY_HALF_LIVES * halfLife.toMillis();
+        Map<UUID, Double> scores = new HashMap<>();
+        if (Files.exists(checkpointFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+                String[] header = reader.readLine().split(",");
+                restoredLandmark = Long.parseLong(header[0]);
+                since = Long.parseLong(header[1]);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(",");
+                    scores.put(UUID.fromString(fields[0]), Double.parseDouble(fields[1]));
+                }
+            } catch (IOException | RuntimeException ex) {
+                System.err.println("Could not read trending checkpoint " + checkpointFile + ", rebuilding from likes: " + ex.getMessage());
+                scores.clear();
+                restoredLandmark = now;
+                since = now - REPLAY_HALF_LIVES * halfLife.toMillis();
+            }
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        for (Object[] row : likeRepository.findLikeTimesBetween(toDateTime(since, zone), toDateTime(now, zone))) {
+            long likedAt = ((LocalDateTime) row[1]).atZone(zone).toInstant().toEpochMilli();
+            scores.merge((UUID) row[0], Math.exp((likedAt - restoredLandmark) / tau), Double::sum);
+        }
+
+        List<Entry> loaded = new ArrayList<>();
+        List<UUID> ideaIds = new ArrayList<>(scores.keySet());
+        for (int from = 0; from < ideaIds.size(); from += LOAD_BATCH_SIZE) {
+            List<UUID> batch = ideaIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, ideaIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Idea idea : ideaRepository.findAllById(batch)) {
+                    loaded.add(new Entry(idea, scores.get(idea.getId())));
+                }
+            });
+        }
+
+        synchronized (this) {
+            // Votes recorded while restoring were scored against the old landmark
+            double rescale = Math.exp((landmark - restoredLandmark) / tau);
+            for (Entry live : entries.values()) {
+                loaded.add(live.withScore(live.score * rescale));
+            }
+            entries.clear();
+            landmark = restoredLandmark;
+            for (Entry entry : loaded) {
+                entries.merge(entry.id, entry, (a, b) -> a.withScore(a.score + b.score));
+            }
+            rebuildAll();
+        }
+        restored = true;
+    }
+
+    @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        if (!restored) {
+            // Never overwrite a good checkpoint with an empty state
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Entry> snapshot;
+        long snapshotLandmark;
+        synchronized (this) {
+            boolean rescaled = (now - landmark) / tau > MAX_LANDMARK_AGE;
+            if (rescaled) {
+                double rescale = Math.exp((landmark - now) / tau);
+                entries.replaceAll((id, entry) -> entry.withScore(entry.score * rescale));
+                landmark = now;
+            }
+            double minimum = MIN_SCORE * Math.exp((now - landmark) / tau);
+            if (entries.values().removeIf(entry -> entry.score < minimum) || rescaled) {
+                rebuildAll();
+            }
+            snapshot = new ArrayList<>(entries.values());
+            snapshotLandmark = landmark;
+        }
+
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(snapshotLandmark + "," + now);
+                writer.newLine();
+                for (Entry entry : snapshot) {
+                    writer.write(entry.id + "," + entry.score);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            System.err.println("Could not write trending checkpoint " + checkpointFile + ": " + ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private void recordVote(UUID ideaId, int sign) {
+        synchronized (this) {
+            if (entries.containsKey(ideaId)) {
+                applyVote(ideaId, sign);
+                return;
+            }
+        }
+        if (sign < 0) {
+            // Unlike of an idea whose likes have already decayed away
+            return;
+        }
+        Entry loaded = transactionTemplate.execute(status ->
+                ideaRepository.findById(ideaId).map(idea -> new Entry(idea, 0)).orElse(null));
+        if (loaded == null) {
+            return;
+        }
+        synchronized (this) {
+            entries.putIfAbsent(ideaId, loaded);
+            applyVote(ideaId, sign);
+        }
+    }
+
+    // Caller holds the lock
+    private void applyVote(UUID ideaId, int sign) {
+        Entry old = entries.get(ideaId);
+        double weight = Math.exp((System.currentTimeMillis() - landmark) / tau);
+        Entry updated = old.withScore(Math.max(0, old.score + sign * weight));
+        entries.put(ideaId, updated);
+        reposition(old, updated);
+    }
+
+    // Caller holds the lock. Either side may be null for an idea entering or leaving the rankings
+    private void reposition(Entry old, Entry updated) {
+        Set<String> keys = new HashSet<>();
+        if (old != null) {
+            keys.addAll(old.keys());
+        }
+        if (updated != null) {
+            keys.addAll(updated.keys());
+        }
+        for (String key : keys) {
+            Ranking ranking = rankings.get(key);
+            List<Entry> current = ranking != null ? ranking.entries : List.of();
+            boolean wasRanked = old != null && current.stream().anyMatch(entry -> entry.id.equals(old.id));
+            boolean belongs = updated != null && updated.score > 0 && updated.keys().contains(key);
+            if (!belongs || (wasRanked && updated.score < old.score)) {
+                // Something outside the top K may now take its place, which only a full pass can tell
+                if (wasRanked) {
+                    rebuild(key);
+                }
+            } else if (wasRanked || current.size() < topK || BY_SCORE.compare(updated, current.get(current.size() - 1)) < 0) {
+                List<Entry> ranked = new ArrayList<>(current.size() + 1);
+                for (Entry entry : current) {
+                    if (!entry.id.equals(updated.id)) {
+                        ranked.add(entry);
+                    }
+                }
+                ranked.add(updated);
+                ranked.sort(BY_SCORE);
+                publish(key, ranked.size() > topK ? ranked.subList(0, topK) : ranked);
+            }
+        }
+    }
+
+    private void rebuild(String key) {
+        publish(key, entries.values().stream()
+                .filter(entry -> entry.score > 0 && entry.keys().contains(key))
+                .sorted(BY_SCORE)
+                .limit(topK)
+                .collect(Collectors.toList()));
+    }
+
+    private void rebuildAll() {
+        Map<String, List<Entry>> grouped = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            if (entry.score > 0) {
+                for (String key : entry.keys()) {
+                    grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+        grouped.forEach((key, candidates) -> {
+            candidates.sort(BY_SCORE);
+            publish(key, candidates.size() > topK ? candidates.subList(0, topK) : candidates);
+        });
+        rankings.keySet().retainAll(grouped.keySet());
+    }
+
+    private void publish(String key, List<Entry> ranked) {
+        if (ranked.isEmpty()) {
+            rankings.remove(key);
+        } else {
+            rankings.put(key, new Ranking(List.copyOf(ranked), landmark));
+        }
+    }
+
+    private static LocalDateTime toDateTime(long millis, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static final class Entry {
+        private final UUID id;
+        private final String title;
+        private final Idea.Priority priority;
+        private final Idea.Status status;
+        private final Set<String> tags;
+        private final double score;
+
+        private Entry(UUID id, String title, Idea.Priority priority, Idea.Status status, Set<String> tags, double score) {
+            this.id = id;
+            this.title = title;
+            this.priority = priority;
+            this.status = status;
+            this.tags = tags;
+            this.score = score;
+        }
+
+        private Entry(Idea idea, double score) {
+            this(idea.getId(), idea.getTitle(), idea.getPriority(), idea.getStatus(),
+                    idea.getTags() != null ? Set.copyOf(idea.getTags()) : Set.of(), score);
+        }
+
+        private Entry withScore(double newScore) {
+            return new Entry(id, title, priority, status, tags, newScore);
+        }
+
+        private Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            keys.add(ALL);
+            if (status != null) {
+                keys.add("status:" + status);
+            }
+            for (String tag : tags) {
+                keys.add("tag:" + tag);
+            }
+            return keys;
+        }
+    }
+
+    private static final class Ranking {
+        private final List<Entry> entries;
+        private final long landmark;
+
+        private Ranking(List<Entry> entries, long landmark) {
+            this.entries = entries;
+            this.landmark = landmark;
+        }
+    }
+}
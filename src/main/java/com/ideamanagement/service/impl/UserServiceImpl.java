@@ -1,5 +1,6 @@
 package com.ideamanagement.service.impl;
 
+import com.ideamanagement.dto.CursorPageDto;
 import com.ideamanagement.dto.UserDto;
 import com.ideamanagement.entity.User;
 import com.ideamanagement.exception.ResourceNotFoundException;
@@ -9,6 +10,7 @@ import com.ideamanagement.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -85,6 +87,13 @@ public class UserServiceImpl implements UserService {
             .map(this::convertToDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> scrollUsers(String cursor, Integer limit) {
+        return KeysetPagination.scroll(userRepository, Specification.where(null), "createdAt",
+            User::getCreatedAt, User::getId, cursor, limit, this::convertToDto);
+    }
+
     @Override
     public UserDto updateUser(UUID id, @Valid UserDto userDto) {
         validateUserDto(userDto);
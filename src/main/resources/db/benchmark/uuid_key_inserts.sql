@@ -0,0 +1,111 @@
+-- Insert benchmark for the primary key formats of V8__binary_uuid_keys.sql. Each table mirrors likes: the key, two
+-- foreign-key columns, a timestamp and a secondary index ending in the key. Run it against a scratch schema with
+-- the mysql client; compare the elapsed time and the data and index sizes reported at the end.
+-- UuidKeyInsertBenchmark in the jmh profile runs the same comparison on H2 without a MySQL server.
+--
+--   random_varchar  VARCHAR(36) random version 4 UUIDs (the previous default)
+--   ordered_varchar VARCHAR(36) version 7 UUIDs
+--   ordered_binary  BINARY(16)  version 7 UUIDs (the new default)
+
+DROP TABLE IF EXISTS bench_random_varchar;
+DROP TABLE IF EXISTS bench_ordered_varchar;
+DROP TABLE IF EXISTS bench_ordered_binary;
+DROP TABLE IF EXISTS bench_results;
+
+CREATE TABLE bench_random_varchar (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    idea_id VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    INDEX idx_idea_created (idea_id, created_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE bench_ordered_varchar LIKE bench_random_varchar;
+
+CREATE TABLE bench_ordered_binary (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    idea_id VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    INDEX idx_idea_created (idea_id, created_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE bench_results (
+    table_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    rows_inserted INT NOT NULL,
+    seconds DECIMAL(10, 3) NOT NULL
+);
+
+DELIMITER //
+
+-- Version 4: 122 random bits
+CREATE FUNCTION bench_uuid_v4() RETURNS CHAR(36) NOT DETERMINISTIC NO SQL
+BEGIN
+    DECLARE h CHAR(32) DEFAULT CONCAT(LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'),
+                                      LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'),
+                                      LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'),
+                                      LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'));
+    RETURN LOWER(CONCAT(SUBSTR(h, 1, 8), '-', SUBSTR(h, 9, 4), '-4', SUBSTR(h, 14, 3), '-',
+                        HEX(8 + FLOOR(RAND() * 4)), SUBSTR(h, 18, 3), '-', SUBSTR(h, 21, 12)));
+END //
+
+-- Version 7 as UuidV7Generator builds it: milliseconds, a per-millisecond sequence, then random bits
+CREATE FUNCTION bench_uuid_v7(millis BIGINT, sequence INT) RETURNS CHAR(36) NOT DETERMINISTIC NO SQL
+BEGIN
+    DECLARE t CHAR(12) DEFAULT LPAD(HEX(millis), 12, '0');
+    DECLARE r CHAR(16) DEFAULT CONCAT(LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'),
+                                      LPAD(HEX(FLOOR(RAND() * 4294967296)), 8, '0'));
+    RETURN LOWER(CONCAT(SUBSTR(t, 1, 8), '-', SUBSTR(t, 9, 4), '-7', LPAD(HEX(sequence), 3, '0'), '-',
+                        HEX(8 + FLOOR(RAND() * 4)), SUBSTR(r, 1, 3), '-', SUBSTR(r, 4, 12)));
+END //
+
+-- Inserts total_rows rows in transactions of batch_size rows, spread over 1000 ideas and 10000 users
+CREATE PROCEDURE bench_insert(IN target VARCHAR(64), IN total_rows INT, IN batch_size INT)
+BEGIN
+    DECLARE i INT DEFAULT 0;
+    DECLARE started DATETIME(6) DEFAULT NOW(6);
+    DECLARE millis BIGINT;
+    DECLARE id CHAR(36);
+    WHILE i < total_rows DO
+        START TRANSACTION;
+        SET millis = FLOOR(UNIX_TIMESTAMP(NOW(3)) * 1000);
+        REPEAT
+            IF target = 'bench_random_varchar' THEN
+                INSERT INTO bench_random_varchar VALUES (bench_uuid_v4(), CONCAT('user-', i % 10000),
+                                                         CONCAT('idea-', i % 1000), NOW(6));
+            ELSE
+                SET id = bench_uuid_v7(millis + i DIV 4096, i % 4096);
+                IF target = 'bench_ordered_varchar' THEN
+                    INSERT INTO bench_ordered_varchar VALUES (id, CONCAT('user-', i % 10000),
+                                                              CONCAT('idea-', i % 1000), NOW(6));
+                ELSE
+                    INSERT INTO bench_ordered_binary VALUES (UUID_TO_BIN(id), CONCAT('user-', i % 10000),
+                                                             CONCAT('idea-', i % 1000), NOW(6));
+                END IF;
+            END IF;
+            SET i = i + 1;
+        UNTIL i % batch_size = 0 OR i >= total_rows END REPEAT;
+        COMMIT;
+    END WHILE;
+    INSERT INTO bench_results VALUES (target, total_rows, TIMESTAMPDIFF(MICROSECOND, started, NOW(6)) / 1000000);
+END //
+
+DELIMITER ;
+
+-- Large enough that the random-key table outgrows the buffer pool on small instances; raise it for larger ones
+SET @rows = 2000000;
+CALL bench_insert('bench_random_varchar', @rows, 1000);
+CALL bench_insert('bench_ordered_varchar', @rows, 1000);
+CALL bench_insert('bench_ordered_binary', @rows, 1000);
+
+ANALYZE TABLE bench_random_varchar, bench_ordered_varchar, bench_ordered_binary;
+
+SELECT r.table_name, r.rows_inserted, r.seconds, ROUND(r.rows_inserted / r.seconds) AS rows_per_second,
+       ROUND(t.DATA_LENGTH / 1048576, 1) AS data_mb, ROUND(t.INDEX_LENGTH / 1048576, 1) AS index_mb
+FROM bench_results r
+JOIN information_schema.TABLES t ON t.TABLE_SCHEMA = DATABASE() AND t.TABLE_NAME = r.table_name
+ORDER BY r.seconds;
+
+DROP PROCEDURE bench_insert;
+DROP FUNCTION bench_uuid_v4;
+DROP FUNCTION bench_uuid_v7;
@@ -0,0 +1,3 @@
+-- Failed post-processing runs per evidence item, so a file that always fails is given up on instead of being
+-- re-queued by the sweeper forever
+ALTER TABLE evidence ADD COLUMN processing_attempts INT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
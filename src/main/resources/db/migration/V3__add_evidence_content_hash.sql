@@ -0,0 +1,5 @@
+-- Content-addressed evidence storage: files are keyed by their SHA-256 and shared between evidence rows
+ALTER TABLE evidence ADD COLUMN content_hash CHAR(64);
+
+-- Used to reference-count blobs before deleting them
+CREATE INDEX idx_evidence_content_hash ON evidence (content_hash);
@@ -0,0 +1,26 @@
+-- Sessions for chunked, resumable evidence uploads
+CREATE TABLE IF NOT EXISTS evidence_uploads (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    category VARCHAR(100) NOT NULL,
+    project_id VARCHAR(36) NOT NULL,
+    uploaded_by VARCHAR(36) NOT NULL,
+    idea_id VARCHAR(36),
+    employee_id VARCHAR(36),
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100),
+    total_size BIGINT NOT NULL,
+    received_bytes BIGINT NOT NULL DEFAULT 0,
+    content_hash CHAR(64),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_evidence_uploads_updated_at (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS evidence_upload_tags (
+    upload_id VARCHAR(36) NOT NULL,
+    tag VARCHAR(50) NOT NULL,
+    PRIMARY KEY (upload_id, tag),
+    FOREIGN KEY (upload_id) REFERENCES evidence_uploads(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,17 @@
+-- Per-stage status of the background evidence pipeline (checksum, thumbnail, text extraction)
+ALTER TABLE evidence ADD COLUMN processing_status VARCHAR(20);
+ALTER TABLE evidence ADD COLUMN checksum_status VARCHAR(20);
+ALTER TABLE evidence ADD COLUMN thumbnail_status VARCHAR(20);
+ALTER TABLE evidence ADD COLUMN text_status VARCHAR(20);
+ALTER TABLE evidence ADD COLUMN thumbnail_path VARCHAR(512);
+ALTER TABLE evidence ADD COLUMN processed_at TIMESTAMP NULL;
+
+-- Used by the sweeper to re-queue evidence that was never processed
+CREATE INDEX idx_evidence_processing_status ON evidence (processing_status);
+
+-- Extracted text lives outside the evidence table so list queries stay narrow
+CREATE TABLE evidence_texts (
+    evidence_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    content LONGTEXT,
+    FOREIGN KEY (evidence_id) REFERENCES evidence(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
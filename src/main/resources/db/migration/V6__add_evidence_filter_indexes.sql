@@ -0,0 +1,9 @@
+-- Keyset pagination of project evidence (newest first, ID as tie-breaker), one index per filter column
+CREATE INDEX idx_evidence_project_uploaded ON evidence (project_id, uploaded_at, id);
+CREATE INDEX idx_evidence_project_status_uploaded ON evidence (project_id, status, uploaded_at, id);
+CREATE INDEX idx_evidence_project_category_uploaded ON evidence (project_id, category, uploaded_at, id);
+CREATE INDEX idx_evidence_project_type_uploaded ON evidence (project_id, type, uploaded_at, id);
+CREATE INDEX idx_evidence_employee_uploaded ON evidence (employee_id, uploaded_at, id);
+
+-- Tag filters start from the tag rather than scanning each evidence row's tags
+CREATE INDEX idx_evidence_tags_tag ON evidence_tags (tag, evidence_id);
@@ -0,0 +1,23 @@
+-- Cursor mode of the list endpoints: newest first, ID as tie-breaker, one index per filter column
+CREATE INDEX idx_ideas_created ON ideas (created_at, id);
+CREATE INDEX idx_ideas_employee_created ON ideas (employee_id, created_at, id);
+CREATE INDEX idx_ideas_status_created ON ideas (status, created_at, id);
+CREATE INDEX idx_ideas_assigned_created ON ideas (assigned_to, created_at, id);
+CREATE INDEX idx_idea_tags_tag ON idea_tags (tag, idea_id);
+
+CREATE INDEX idx_likes_idea_created ON likes (idea_id, created_at, id);
+CREATE INDEX idx_likes_user_created ON likes (user_id, created_at, id);
+
+CREATE INDEX idx_users_created ON users (created_at, id);
+CREATE INDEX idx_projects_created ON projects (created_at, id);
+CREATE INDEX idx_employees_created ON employees (created_at, id);
+CREATE INDEX idx_environments_created ON environments (created_at, id);
+
+CREATE INDEX idx_deployments_created ON deployments (created_at, id);
+CREATE INDEX idx_deployments_employee_created ON deployments (employee_id, created_at, id);
+
+CREATE INDEX idx_api_endpoints_created ON api_endpoints (created_at, id);
+CREATE INDEX idx_api_endpoints_employee_created ON api_endpoints (employee_id, created_at, id);
+
+CREATE INDEX idx_api_test_logs_executed ON api_test_logs (executed_at, id);
+CREATE INDEX idx_api_test_logs_endpoint_executed ON api_test_logs (endpoint_id, executed_at, id);
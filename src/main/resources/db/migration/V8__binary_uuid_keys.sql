@@ -0,0 +1,155 @@
+-- BINARY(16) primary keys for the largest insert-heavy tables: likes, and evidence together with the two tables
+-- keyed by its ID (evidence_tags, evidence_texts). api_test_logs has used BINARY(16) from the start.
+-- The values are the 16 UUID bytes in their usual order, i.e. UUID_TO_BIN(id) without the swap flag, which is
+-- what Hibernate writes for @JdbcTypeCode(SqlTypes.BINARY). New keys are time-ordered UUIDv7 either way.
+--
+-- Phase 1 is online and runs while the previous release is still serving: shadow columns are added instantly,
+-- filled by triggers for new rows and backfilled in small key ranges for existing ones.
+-- Phase 2 swaps the columns in place without blocking reads or writes, but the previous release cannot write
+-- the new column type, so run it between stopping the old release and starting this one.
+-- Run with the mysql client (the procedures need DELIMITER).
+
+-- Phase 1 ------------------------------------------------------------------------------------------------------
+
+ALTER TABLE likes ADD COLUMN id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE evidence ADD COLUMN id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE evidence_tags ADD COLUMN evidence_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE evidence_texts ADD COLUMN evidence_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+
+-- IDs are never updated, so inserts are the only writes to follow
+CREATE TRIGGER likes_id_bin BEFORE INSERT ON likes
+    FOR EACH ROW SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+CREATE TRIGGER evidence_id_bin BEFORE INSERT ON evidence
+    FOR EACH ROW SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+CREATE TRIGGER evidence_tags_id_bin BEFORE INSERT ON evidence_tags
+    FOR EACH ROW SET NEW.evidence_id_bin = UUID_TO_BIN(NEW.evidence_id);
+CREATE TRIGGER evidence_texts_id_bin BEFORE INSERT ON evidence_texts
+    FOR EACH ROW SET NEW.evidence_id_bin = UUID_TO_BIN(NEW.evidence_id);
+
+DELIMITER //
+
+-- Converts source_column into target_column one key range of batch_size rows at a time, so no statement holds
+-- row locks for long
+CREATE PROCEDURE backfill_binary_uuid(IN table_name VARCHAR(64), IN key_column VARCHAR(64),
+                                      IN source_column VARCHAR(64), IN target_column VARCHAR(64),
+                                      IN batch_size INT)
+BEGIN
+    SET @last_key = '';
+    REPEAT
+        SET @next_key = NULL;
+        SET @find_next = CONCAT('SELECT MAX(k) INTO @next_key FROM (SELECT ', key_column, ' AS k FROM ', table_name,
+                                ' WHERE ', key_column, ' > ? ORDER BY ', key_column, ' LIMIT ', batch_size, ') batch');
+        PREPARE find_next FROM @find_next;
+        EXECUTE find_next USING @last_key;
+        DEALLOCATE PREPARE find_next;
+        IF @next_key IS NOT NULL THEN
+            SET @fill = CONCAT('UPDATE ', table_name, ' SET ', target_column, ' = UUID_TO_BIN(', source_column, ')',
+                               ' WHERE ', key_column, ' > ? AND ', key_column, ' <= ? AND ', target_column, ' IS NULL');
+            PREPARE fill FROM @fill;
+            EXECUTE fill USING @last_key, @next_key;
+            DEALLOCATE PREPARE fill;
+            SET @last_key = @next_key;
+        END IF;
+    UNTIL @next_key IS NULL END REPEAT;
+END //
+
+-- Foreign keys to evidence(id) may carry generated names (from this schema or from Hibernate), so they are
+-- looked up rather than dropped by name
+CREATE PROCEDURE drop_foreign_keys_to(IN child_table VARCHAR(64), IN parent_table VARCHAR(64))
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE fk_name VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+        WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = child_table
+          AND REFERENCED_TABLE_NAME = parent_table;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @drop_fk = CONCAT('ALTER TABLE ', child_table, ' DROP FOREIGN KEY `', fk_name, '`');
+        PREPARE drop_fk FROM @drop_fk;
+        EXECUTE drop_fk;
+        DEALLOCATE PREPARE drop_fk;
+    END LOOP;
+    CLOSE fks;
+END //
+
+DELIMITER ;
+
+CALL backfill_binary_uuid('likes', 'id', 'id', 'id_bin', 5000);
+CALL backfill_binary_uuid('evidence', 'id', 'id', 'id_bin', 5000);
+CALL backfill_binary_uuid('evidence_tags', 'evidence_id', 'evidence_id', 'evidence_id_bin', 5000);
+CALL backfill_binary_uuid('evidence_texts', 'evidence_id', 'evidence_id', 'evidence_id_bin', 5000);
+
+-- Phase 2: with the previous release stopped ------------------------------------------------------------------
+
+DROP TRIGGER likes_id_bin;
+DROP TRIGGER evidence_id_bin;
+DROP TRIGGER evidence_tags_id_bin;
+DROP TRIGGER evidence_texts_id_bin;
+
+-- Indexes that name the old column are rebuilt on the new one
+ALTER TABLE likes
+    DROP PRIMARY KEY,
+    DROP INDEX idx_likes_idea_created,
+    DROP INDEX idx_likes_user_created,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id),
+    ADD INDEX idx_likes_idea_created (idea_id, created_at, id),
+    ADD INDEX idx_likes_user_created (user_id, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+CALL drop_foreign_keys_to('evidence_tags', 'evidence');
+CALL drop_foreign_keys_to('evidence_texts', 'evidence');
+
+ALTER TABLE evidence
+    DROP PRIMARY KEY,
+    DROP INDEX idx_evidence_project_uploaded,
+    DROP INDEX idx_evidence_project_status_uploaded,
+    DROP INDEX idx_evidence_project_category_uploaded,
+    DROP INDEX idx_evidence_project_type_uploaded,
+    DROP INDEX idx_evidence_employee_uploaded,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id),
+    ADD INDEX idx_evidence_project_uploaded (project_id, uploaded_at, id),
+    ADD INDEX idx_evidence_project_status_uploaded (project_id, status, uploaded_at, id),
+    ADD INDEX idx_evidence_project_category_uploaded (project_id, category, uploaded_at, id),
+    ADD INDEX idx_evidence_project_type_uploaded (project_id, type, uploaded_at, id),
+    ADD INDEX idx_evidence_employee_uploaded (employee_id, uploaded_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE evidence_tags
+    DROP PRIMARY KEY,
+    DROP INDEX idx_evidence_tags_tag,
+    DROP COLUMN evidence_id,
+    CHANGE COLUMN evidence_id_bin evidence_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (evidence_id, tag),
+    ADD INDEX idx_evidence_tags_tag (tag, evidence_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE evidence_texts
+    DROP PRIMARY KEY,
+    DROP COLUMN evidence_id,
+    CHANGE COLUMN evidence_id_bin evidence_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (evidence_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- The keys were converted from the rows they point at, so the constraints need no re-check; skipping it keeps
+-- adding them in place
+SET foreign_key_checks = 0;
+ALTER TABLE evidence_tags
+    ADD CONSTRAINT fk_evidence_tags_evidence FOREIGN KEY (evidence_id) REFERENCES evidence(id) ON DELETE CASCADE,
+    ALGORITHM=INPLACE, LOCK=NONE;
+ALTER TABLE evidence_texts
+    ADD CONSTRAINT fk_evidence_texts_evidence FOREIGN KEY (evidence_id) REFERENCES evidence(id) ON DELETE CASCADE,
+    ALGORITHM=INPLACE, LOCK=NONE;
+SET foreign_key_checks = 1;
+
+DROP PROCEDURE backfill_binary_uuid;
+DROP PROCEDURE drop_foreign_keys_to;
@@ -0,0 +1,13 @@
+-- Optimistic-lock revisions behind the ETags of idea, deployment, environment and tag responses. Existing rows
+-- start at revision 0; the columns are added in place without copying the tables.
+ALTER TABLE ideas ADD COLUMN revision BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+ALTER TABLE deployments ADD COLUMN revision BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+ALTER TABLE environments ADD COLUMN revision BIGINT NOT NULL DEFAULT 0, ALGORITHM=INSTANT;
+ALTER TABLE tags
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM=INSTANT;
+
+-- Covers the count / latest update / revision sum probe of an employee's deployment list
+CREATE INDEX idx_deployments_employee_updated ON deployments (employee_id, updated_at, revision)
+    ALGORITHM=INPLACE LOCK=NONE;
@@ -1,4 +1,7 @@
 -- Drop tables if they exist (in reverse order of dependencies)
+DROP TABLE IF EXISTS evidence_texts;
+DROP TABLE IF EXISTS evidence_upload_tags;
+DROP TABLE IF EXISTS evidence_uploads;
 DROP TABLE IF EXISTS evidence_tags;
 DROP TABLE IF EXISTS evidence;
 DROP TABLE IF EXISTS likes;
@@ -30,7 +33,8 @@ CREATE TABLE IF NOT EXISTS api_endpoints (
     last_tested DATE,
     response_time_ms INT,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    INDEX idx_api_endpoints_created (created_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create ideas table
@@ -44,13 +48,22 @@ CREATE TABLE IF NOT EXISTS ideas (
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     upvotes INT NOT NULL DEFAULT 0,
-    comments INT NOT NULL DEFAULT 0
+    comments INT NOT NULL DEFAULT 0,
+    revision BIGINT NOT NULL DEFAULT 0,
+    assigned_to VARCHAR(100),
+    employee_id VARCHAR(36),
+    INDEX idx_ideas_created (created_at, id),
+    INDEX idx_ideas_employee_created (employee_id, created_at, id),
+    INDEX idx_ideas_status_created (status, created_at, id),
+    INDEX idx_ideas_assigned_created (assigned_to, created_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create tags table
 CREATE TABLE IF NOT EXISTS tags (
     id VARCHAR(36) NOT NULL PRIMARY KEY,
-    name VARCHAR(50) NOT NULL UNIQUE
+    name VARCHAR(50) NOT NULL UNIQUE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    revision BIGINT NOT NULL DEFAULT 0
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create idea_tags junction table
@@ -58,18 +71,21 @@ CREATE TABLE IF NOT EXISTS idea_tags (
     idea_id VARCHAR(36) NOT NULL,
     tag VARCHAR(50) NOT NULL,
     PRIMARY KEY (idea_id, tag),
+    INDEX idx_idea_tags_tag (tag, idea_id),
     FOREIGN KEY (idea_id) REFERENCES ideas(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create likes table
 CREATE TABLE IF NOT EXISTS likes (
-    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    id BINARY(16) NOT NULL PRIMARY KEY,
     user_id VARCHAR(36) NOT NULL,
     idea_id VARCHAR(36) NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (idea_id) REFERENCES ideas(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_user_idea (user_id, idea_id)
+    UNIQUE KEY unique_user_idea (user_id, idea_id),
+    INDEX idx_likes_idea_created (idea_id, created_at, id),
+    INDEX idx_likes_user_created (user_id, created_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create environments table
@@ -78,7 +94,9 @@ CREATE TABLE IF NOT EXISTS environments (
     name VARCHAR(50) NOT NULL,
     description TEXT,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    revision BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_environments_created (created_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create deployments table
@@ -94,13 +112,17 @@ CREATE TABLE IF NOT EXISTS deployments (
     progress VARCHAR(3),
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL,
+    revision BIGINT NOT NULL DEFAULT 0,
     employee_id VARCHAR(36),
+    INDEX idx_deployments_created (created_at, id),
+    INDEX idx_deployments_employee_created (employee_id, created_at, id),
+    INDEX idx_deployments_employee_updated (employee_id, updated_at, revision),
     FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create evidence table with full structure
 CREATE TABLE IF NOT EXISTS evidence (
-    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    id BINARY(16) NOT NULL PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     description TEXT,
     type VARCHAR(20) NOT NULL DEFAULT 'FILE',
@@ -110,7 +132,15 @@ CREATE TABLE IF NOT EXISTS evidence (
     file_path VARCHAR(512),
     content_type VARCHAR(100),
     file_size BIGINT,
+    content_hash CHAR(64),
     url VARCHAR(512),
+    processing_status VARCHAR(20),
+    checksum_status VARCHAR(20),
+    thumbnail_status VARCHAR(20),
+    text_status VARCHAR(20),
+    thumbnail_path VARCHAR(512),
+    processed_at TIMESTAMP NULL,
+    processing_attempts INT NOT NULL DEFAULT 0,
     idea_id VARCHAR(36),
     project_id VARCHAR(36) NOT NULL,
     uploaded_by VARCHAR(36) NOT NULL,
@@ -121,13 +151,56 @@ CREATE TABLE IF NOT EXISTS evidence (
     FOREIGN KEY (idea_id) REFERENCES ideas(id) ON DELETE SET NULL,
     FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
     FOREIGN KEY (uploaded_by) REFERENCES users(id) ON DELETE CASCADE,
-    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL
+    FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL,
+    INDEX idx_evidence_content_hash (content_hash),
+    INDEX idx_evidence_processing_status (processing_status),
+    INDEX idx_evidence_project_uploaded (project_id, uploaded_at, id),
+    INDEX idx_evidence_project_status_uploaded (project_id, status, uploaded_at, id),
+    INDEX idx_evidence_project_category_uploaded (project_id, category, uploaded_at, id),
+    INDEX idx_evidence_project_type_uploaded (project_id, type, uploaded_at, id),
+    INDEX idx_evidence_employee_uploaded (employee_id, uploaded_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Create evidence_tags table
 CREATE TABLE IF NOT EXISTS evidence_tags (
-    evidence_id VARCHAR(36) NOT NULL,
+    evidence_id BINARY(16) NOT NULL,
     tag VARCHAR(50) NOT NULL,
     PRIMARY KEY (evidence_id, tag),
+    INDEX idx_evidence_tags_tag (tag, evidence_id),
+    FOREIGN KEY (evidence_id) REFERENCES evidence(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create evidence_texts table for text extracted from evidence files
+CREATE TABLE IF NOT EXISTS evidence_texts (
+    evidence_id BINARY(16) NOT NULL PRIMARY KEY,
+    content LONGTEXT,
     FOREIGN KEY (evidence_id) REFERENCES evidence(id) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4; 
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create evidence_uploads table for chunked, resumable uploads
+CREATE TABLE IF NOT EXISTS evidence_uploads (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    category VARCHAR(100) NOT NULL,
+    project_id VARCHAR(36) NOT NULL,
+    uploaded_by VARCHAR(36) NOT NULL,
+    idea_id VARCHAR(36),
+    employee_id VARCHAR(36),
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100),
+    total_size BIGINT NOT NULL,
+    received_bytes BIGINT NOT NULL DEFAULT 0,
+    content_hash CHAR(64),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_evidence_uploads_updated_at (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create evidence_upload_tags table
+CREATE TABLE IF NOT EXISTS evidence_upload_tags (
+    upload_id VARCHAR(36) NOT NULL,
+    tag VARCHAR(50) NOT NULL,
+    PRIMARY KEY (upload_id, tag),
+    FOREIGN KEY (upload_id) REFERENCES evidence_uploads(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,63 @@
+package com.ideamanagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The slow query log and the metrics need the operations account set in application-test.properties; health and
+// the API itself stay open
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigTest {
+    private static final String OPS_CREDENTIALS = basic("ops", "test-ops-password");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void adminAndMetricsEndpointsRequireCredentials() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/slow-queries/stats")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/admin/slow-queries")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries/stats")
+                        .header(HttpHeaders.AUTHORIZATION, basic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void operationsAccountReachesAdminAndMetricsEndpoints() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries/stats").header(HttpHeaders.AUTHORIZATION, OPS_CREDENTIALS))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, OPS_CREDENTIALS))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void healthAndApiStayOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
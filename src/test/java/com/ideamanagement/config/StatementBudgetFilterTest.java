@@ -0,0 +1,138 @@
+package com.ideamanagement.config;
+
+import com.ideamanagement.dto.EmployeeDto;
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.IdeaDto;
+import com.ideamanagement.dto.ProjectDto;
+import com.ideamanagement.dto.UserDto;
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.Idea;
+import com.ideamanagement.service.EmployeeService;
+import com.ideamanagement.service.EvidenceService;
+import com.ideamanagement.service.IdeaService;
+import com.ideamanagement.service.ProjectService;
+import com.ideamanagement.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The endpoints that used to issue one query per row (ideas with their eagerly loaded tags, evidence with its tags,
+// employees) stay within the statement budget on a page of PAGE_SIZE rows. sql.budget.fail-on-violation is set for
+// tests, so a request that regresses into N+1 fails here instead of only being logged
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetFilterTest {
+    private static final int PAGE_SIZE = 20;
+    // A page, its count query, the batch-fetched collections and the security and session overhead
+    private static final int MAX_STATEMENTS_PER_PAGE = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private IdeaService ideaService;
+    @Autowired
+    private EvidenceService evidenceService;
+
+    private UUID employeeId;
+    private UUID ideaId;
+    private UUID projectId;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            EmployeeDto employee = new EmployeeDto();
+            employee.setFirstName("First" + i);
+            employee.setLastName("Last" + i);
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setStatus("ACTIVE");
+            employeeId = employeeService.createEmployee(employee).getId();
+        }
+
+        UserDto user = new UserDto();
+        user.setUsername("budget");
+        user.setEmail("budget@example.com");
+        user.setFullName("Statement Budget");
+        user.setPassword("budget-password");
+        UUID userId = userService.createUser(user).getId();
+
+        ProjectDto project = new ProjectDto();
+        project.setName("budget");
+        project.setEmployeeId(employeeId);
+        projectId = projectService.createProject(project).getId();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            IdeaDto idea = new IdeaDto();
+            idea.setTitle("Idea " + i);
+            idea.setEmployeeId(employeeId);
+            idea.setPriority(Idea.Priority.MEDIUM);
+            idea.setStatus(Idea.Status.PENDING);
+            idea.setTags(Set.of("tag-a" + i, "tag-b" + i));
+            ideaId = ideaService.createIdea(idea).getId();
+
+            EvidenceDto evidence = new EvidenceDto();
+            evidence.setTitle("Evidence " + i);
+            evidence.setType(Evidence.EvidenceType.TEXT);
+            evidence.setCategory("notes");
+            evidence.setProjectId(projectId);
+            evidence.setUploadedBy(userId);
+            evidence.setTags(Set.of("tag-a" + i, "tag-b" + i));
+            evidenceService.createEvidence(evidence);
+        }
+    }
+
+    @Test
+    void ideaListLoadsTagsInBatches() throws Exception {
+        assertWithinBudget("/api/ideas?employeeId=" + employeeId + "&size=" + PAGE_SIZE);
+    }
+
+    @Test
+    void ideaCursorPageLoadsTagsInBatches() throws Exception {
+        assertWithinBudget("/api/ideas?employeeId=" + employeeId + "&limit=" + PAGE_SIZE);
+    }
+
+    @Test
+    void singleIdeaIsLoadedWithItsTags() throws Exception {
+        assertWithinBudget("/api/ideas/" + ideaId + "?employeeId=" + employeeId);
+    }
+
+    @Test
+    void evidenceListLoadsTagsInOneQuery() throws Exception {
+        assertWithinBudget("/api/evidence/project/" + projectId + "?size=" + PAGE_SIZE);
+    }
+
+    @Test
+    void employeeListIsOnePageQuery() throws Exception {
+        assertWithinBudget("/api/employees?size=" + PAGE_SIZE);
+    }
+
+    private void assertWithinBudget(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn();
+        String statements = result.getResponse().getHeader(StatementBudgetFilter.STATEMENTS_HEADER);
+        String maxRepeats = result.getResponse().getHeader(StatementBudgetFilter.MAX_REPEATS_HEADER);
+        assertThat(statements).as("%s header of %s", StatementBudgetFilter.STATEMENTS_HEADER, uri).isNotNull();
+        assertThat(Integer.parseInt(statements)).as("statements issued by %s", uri)
+                .isBetween(1, MAX_STATEMENTS_PER_PAGE);
+        assertThat(Integer.parseInt(maxRepeats)).as("most repeated statement of %s", uri).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ideamanagement.repository;
+
+import com.ideamanagement.entity.Evidence;
+import com.ideamanagement.entity.Project;
+import com.ideamanagement.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EvidenceRepositoryTest {
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private EvidenceRepository evidenceRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Evidence evidence;
+
+    @BeforeEach
+    void createPendingEvidence() {
+        LocalDateTime now = LocalDateTime.now();
+        String suffix = UUID.randomUUID().toString();
+
+        User user = new User();
+        user.setUsername("processing-" + suffix);
+        user.setEmail("processing-" + suffix + "@example.com");
+        user.setFullName("Processing");
+        user.setPassword("processing-password");
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        user = userRepository.save(user);
+
+        Project project = new Project();
+        project.setName("processing-" + suffix);
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+        project = projectRepository.save(project);
+
+        evidence = new Evidence();
+        evidence.setTitle("Poison");
+        evidence.setCategory("files");
+        evidence.setFilePath("ab/cdef");
+        evidence.setProcessingStatus(Evidence.ProcessingStatus.PENDING);
+        evidence.setProject(project);
+        evidence.setUploadedBy(user);
+        evidence.setUploadedAt(now);
+        evidence.setCreatedAt(now);
+        evidence.setUpdatedAt(now);
+        evidence = evidenceRepository.save(evidence);
+    }
+
+    @Test
+    void failedProcessingIsGivenUpAfterMaxAttempts() {
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            assertThat(recordFailure(evidence.getFilePath())).isEqualTo(1);
+            Evidence reloaded = evidenceRepository.findById(evidence.getId()).orElseThrow();
+            assertThat(reloaded.getProcessingAttempts()).isEqualTo(attempt);
+            assertThat(reloaded.getProcessingStatus()).isEqualTo(Evidence.ProcessingStatus.PENDING);
+        }
+
+        assertThat(recordFailure(evidence.getFilePath())).isEqualTo(1);
+        Evidence reloaded = evidenceRepository.findById(evidence.getId()).orElseThrow();
+        assertThat(reloaded.getProcessingAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(reloaded.getProcessingStatus()).isEqualTo(Evidence.ProcessingStatus.FAILED);
+
+        // No longer PENDING, so the sweeper has nothing left to retry
+        assertThat(recordFailure(evidence.getFilePath())).isZero();
+    }
+
+    @Test
+    void failureOfAReplacedFileIsNotCounted() {
+        assertThat(recordFailure("00/replaced")).isZero();
+        Evidence reloaded = evidenceRepository.findById(evidence.getId()).orElseThrow();
+        assertThat(reloaded.getProcessingAttempts()).isZero();
+        assertThat(reloaded.getProcessingStatus()).isEqualTo(Evidence.ProcessingStatus.PENDING);
+    }
+
+    private int recordFailure(String filePath) {
+        return evidenceRepository.recordProcessingFailure(evidence.getId(), filePath, MAX_ATTEMPTS,
+                Evidence.ProcessingStatus.PENDING, Evidence.ProcessingStatus.FAILED, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,245 @@
+package com.ideamanagement.service.impl;
+
+import com.ideamanagement.dto.EvidenceDto;
+import com.ideamanagement.dto.EvidenceUploadDto;
+import com.ideamanagement.dto.ProjectDto;
+import com.ideamanagement.dto.UserDto;
+import com.ideamanagement.exception.ResourceNotFoundException;
+import com.ideamanagement.repository.EvidenceRepository;
+import com.ideamanagement.repository.EvidenceUploadRepository;
+import com.ideamanagement.service.EvidenceBlobStore;
+import com.ideamanagement.service.EvidenceService;
+import com.ideamanagement.service.EvidenceUploadService;
+import com.ideamanagement.service.ProjectService;
+import com.ideamanagement.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Races between requests on the same upload and on uploads of the same content. Each race is started from a
+// latch so the calls overlap, and checked for the outcome every interleaving must end in
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EvidenceUploadServiceImplTest {
+    private static final int SIZE = 64 * 1024;
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private EvidenceUploadService evidenceUploadService;
+    @Autowired
+    private EvidenceService evidenceService;
+    @Autowired
+    private EvidenceBlobStore evidenceBlobStore;
+    @Autowired
+    private EvidenceRepository evidenceRepository;
+    @Autowired
+    private EvidenceUploadRepository evidenceUploadRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private UserService userService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private UUID projectId;
+    private UUID userId;
+
+    @BeforeAll
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDto user = new UserDto();
+        user.setUsername("uploads-" + suffix);
+        user.setEmail("uploads-" + suffix + "@example.com");
+        user.setFullName("Chunked Uploads");
+        user.setPassword("uploads-password");
+        userId = userService.createUser(user).getId();
+
+        ProjectDto project = new ProjectDto();
+        project.setName("uploads-" + suffix);
+        projectId = projectService.createProject(project).getId();
+    }
+
+    @AfterAll
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void chunksRetriedConcurrentlyAtTheSameOffsetAreAcknowledgedOnce() throws Exception {
+        byte[] content = randomContent();
+        UUID uploadId = initUpload(content.length);
+
+        List<Future<EvidenceUploadDto>> writes = race(THREADS,
+                () -> evidenceUploadService.writeChunk(uploadId, 0, new ByteArrayInputStream(content)));
+
+        int acknowledged = 0;
+        for (Future<EvidenceUploadDto> write : writes) {
+            try {
+                assertThat(write.get().getReceivedBytes()).isEqualTo(SIZE);
+                acknowledged++;
+            } catch (ExecutionException ex) {
+                // A retry that read the offset before the first write advanced it is told to re-read the status
+                assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class);
+            }
+        }
+        assertThat(acknowledged).isPositive();
+        assertThat(evidenceUploadService.getUpload(uploadId).getReceivedBytes()).isEqualTo(SIZE);
+
+        EvidenceDto evidence = evidenceUploadService.commitUpload(uploadId);
+        assertThat(Files.readAllBytes(evidenceBlobStore.resolve(evidence.getContentHash()))).isEqualTo(content);
+    }
+
+    @Test
+    void uploadCommittedTwiceConcurrentlyCreatesOneEvidence() throws Exception {
+        byte[] content = randomContent();
+        UUID uploadId = initUpload(content.length);
+        evidenceUploadService.writeChunk(uploadId, 0, new ByteArrayInputStream(content));
+
+        List<Future<EvidenceDto>> commits = race(2, () -> evidenceUploadService.commitUpload(uploadId));
+
+        List<EvidenceDto> created = new ArrayList<>();
+        for (Future<EvidenceDto> commit : commits) {
+            try {
+                created.add(commit.get());
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(ResourceNotFoundException.class);
+            }
+        }
+        assertThat(created).hasSize(1);
+        String contentHash = created.get(0).getContentHash();
+        assertThat(evidenceRepository.countByContentHash(contentHash)).isEqualTo(1);
+        assertThat(evidenceBlobStore.exists(contentHash)).isTrue();
+        assertThat(evidenceUploadRepository.existsById(uploadId)).isFalse();
+    }
+
+    @Test
+    void sharedContentIsKeptUntilItsLastEvidenceIsDeleted() {
+        byte[] content = randomContent();
+        EvidenceDto first = upload(content);
+        EvidenceDto second = upload(content);
+        String contentHash = first.getContentHash();
+        assertThat(second.getContentHash()).isEqualTo(contentHash);
+        assertThat(evidenceRepository.countByContentHash(contentHash)).isEqualTo(2);
+
+        evidenceService.deleteEvidence(first.getId());
+        assertThat(evidenceBlobStore.exists(contentHash)).isTrue();
+
+        evidenceService.deleteEvidence(second.getId());
+        assertThat(evidenceBlobStore.exists(contentHash)).isFalse();
+    }
+
+    @Test
+    void abortDuringCommitLeavesEitherTheEvidenceOrNothing() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            byte[] content = randomContent();
+            String contentHash = hash(content);
+            UUID uploadId = initUpload(content.length);
+            evidenceUploadService.writeChunk(uploadId, 0, new ByteArrayInputStream(content));
+
+            CountDownLatch start = new CountDownLatch(1);
+            Future<EvidenceDto> commit = executor.submit(() -> {
+                start.await();
+                return evidenceUploadService.commitUpload(uploadId);
+            });
+            Future<?> abort = executor.submit(() -> {
+                start.await();
+                evidenceUploadService.abortUpload(uploadId);
+                return null;
+            });
+            start.countDown();
+
+            boolean committed;
+            try {
+                commit.get(30, TimeUnit.SECONDS);
+                committed = true;
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(ResourceNotFoundException.class);
+                committed = false;
+            }
+            try {
+                abort.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException ex) {
+                // The commit removed the upload before the abort looked it up
+                assertThat(ex.getCause()).isInstanceOf(ResourceNotFoundException.class);
+            }
+
+            assertThat(evidenceUploadRepository.existsById(uploadId)).isFalse();
+            assertThat(evidenceRepository.countByContentHash(contentHash)).isEqualTo(committed ? 1 : 0);
+            assertThat(evidenceBlobStore.exists(contentHash)).as("blob of round %d", round).isEqualTo(committed);
+        }
+    }
+
+    private UUID initUpload(long size) {
+        EvidenceUploadDto upload = new EvidenceUploadDto();
+        upload.setTitle("Chunked");
+        upload.setCategory("files");
+        upload.setFileName("content.bin");
+        upload.setContentType("application/octet-stream");
+        upload.setTotalSize(size);
+        upload.setProjectId(projectId);
+        upload.setUploadedBy(userId);
+        return evidenceUploadService.initUpload(upload).getId();
+    }
+
+    private EvidenceDto upload(byte[] content) {
+        UUID uploadId = initUpload(content.length);
+        evidenceUploadService.writeChunk(uploadId, 0, new ByteArrayInputStream(content));
+        return evidenceUploadService.commitUpload(uploadId);
+    }
+
+    private <T> List<Future<T>> race(int callers, Callable<T> call) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+        for (Future<T> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException ex) {
+                // Inspected by the caller
+            } catch (TimeoutException ex) {
+                throw new AssertionError("Racing calls did not finish", ex);
+            }
+        }
+        return futures;
+    }
+
+    private String hash(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private static byte[] randomContent() {
+        byte[] content = new byte[SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+}